@@ -0,0 +1,98 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.SubwayApplication;
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.SyntheticNetwork;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LineServiceBenchmark {
+    private static final long SEED = 20220214L;
+
+    @Param({"1000", "10000"})
+    private int stationCount;
+
+    @Param({"20"})
+    private int lineCount;
+
+    @Param({"200"})
+    private int sectionsPerLine;
+
+    @Param({"false", "true"})
+    private boolean cached;
+
+    private ConfigurableApplicationContext context;
+    private LineService lineService;
+    private StationService stationService;
+    private Line line;
+    private long[] stationIds;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        SyntheticNetwork network = SyntheticNetwork.generate(SEED, stationCount, lineCount, sectionsPerLine);
+        line = network.createLines(network.createStations()).get(0);
+
+        context = new SpringApplicationBuilder(SubwayApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.properties.hibernate.show_sql=false", "logging.level.root=warn",
+                        "spring.cache.type=" + (cached ? "caffeine" : "none"),
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=" + cached,
+                        "spring.jpa.properties.hibernate.cache.use_query_cache=" + cached)
+                .run();
+        lineService = context.getBean(LineService.class);
+        stationService = context.getBean(StationService.class);
+
+        List<Station> stations = new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).execute(status -> {
+            List<Station> saved = context.getBean(StationRepository.class).saveAll(network.createStations());
+            context.getBean(LineRepository.class).saveAll(network.createLines(saved));
+            return saved;
+        });
+        stationIds = stations.stream().mapToLong(Station::getId).toArray();
+        random = new Random(SEED);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<StationResponse> createStationResponses() {
+        return lineService.createStationResponses(line);
+    }
+
+    @Benchmark
+    public List<LineResponse> showLines() {
+        return lineService.showLines();
+    }
+
+    @Benchmark
+    public Station findStationById() {
+        return stationService.findById(stationIds[random.nextInt(stationIds.length)]);
+    }
+}
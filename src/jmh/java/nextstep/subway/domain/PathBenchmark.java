@@ -0,0 +1,82 @@
+package nextstep.subway.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PathBenchmark {
+    private static final long SEED = 20220214L;
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000", "10000"})
+    private int stationCount;
+
+    @Param({"20"})
+    private int lineCount;
+
+    @Param({"200"})
+    private int sectionsPerLine;
+
+    @Param({"JGRAPHT", "CSR", "CSR_REUSABLE", "CH"})
+    private PathStrategy strategy;
+
+    private SubwayNetwork network;
+    private PathFinder pathFinder;
+    private long[] sources;
+    private long[] targets;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        network = SyntheticNetwork.generate(SEED, stationCount, lineCount, sectionsPerLine).createSubwayNetwork();
+        pathFinder = strategy.create(network);
+
+        PathFinder reference = PathStrategy.CSR.create(network);
+        long[] connectedIds = network.getSections().stream()
+                .mapToLong(it -> it.getUpStation().getId())
+                .distinct()
+                .toArray();
+        Random random = new Random(SEED);
+        sources = new long[QUERY_COUNT];
+        targets = new long[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; ) {
+            long source = connectedIds[random.nextInt(connectedIds.length)];
+            long target = connectedIds[random.nextInt(connectedIds.length)];
+            if (isReachable(reference, source, target)) {
+                sources[i] = source;
+                targets[i++] = target;
+            }
+        }
+    }
+
+    private boolean isReachable(PathFinder reference, long source, long target) {
+        try {
+            reference.findPath(source, target);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public Path findPath() {
+        int query = cursor++ & (QUERY_COUNT - 1);
+        return pathFinder.findPath(sources[query], targets[query]);
+    }
+
+    @Benchmark
+    public PathFinder createPathFinder() {
+        return strategy.create(network);
+    }
+}
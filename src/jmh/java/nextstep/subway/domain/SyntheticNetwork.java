@@ -0,0 +1,88 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class SyntheticNetwork {
+    private static final int MAX_DISTANCE = 20;
+
+    private final int stationCount;
+    private final int[][] lineStations;
+    private final int[][] lineDistances;
+
+    private SyntheticNetwork(int stationCount, int[][] lineStations, int[][] lineDistances) {
+        this.stationCount = stationCount;
+        this.lineStations = lineStations;
+        this.lineDistances = lineDistances;
+    }
+
+    public static SyntheticNetwork generate(long seed, int stationCount, int lineCount, int sectionsPerLine) {
+        if (sectionsPerLine >= stationCount) {
+            throw new IllegalArgumentException();
+        }
+
+        Random random = new Random(seed);
+        int[][] lineStations = new int[lineCount][];
+        int[][] lineDistances = new int[lineCount][];
+        for (int line = 0; line < lineCount; line++) {
+            lineStations[line] = pickDistinct(random, stationCount, sectionsPerLine + 1);
+            lineDistances[line] = random.ints(sectionsPerLine, 1, MAX_DISTANCE + 1).toArray();
+        }
+        return new SyntheticNetwork(stationCount, lineStations, lineDistances);
+    }
+
+    private static int[] pickDistinct(Random random, int bound, int count) {
+        int[] candidates = new int[bound];
+        for (int i = 0; i < bound; i++) {
+            candidates[i] = i;
+        }
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(bound - i);
+            int picked = candidates[j];
+            candidates[j] = candidates[i];
+            candidates[i] = picked;
+        }
+        int[] picked = new int[count];
+        System.arraycopy(candidates, 0, picked, 0, count);
+        return picked;
+    }
+
+    public List<Station> createStations() {
+        List<Station> stations = new ArrayList<>(stationCount);
+        for (int i = 0; i < stationCount; i++) {
+            stations.add(new Station("역" + (i + 1)));
+        }
+        return stations;
+    }
+
+    public List<Line> createLines(List<Station> stations) {
+        List<Line> lines = new ArrayList<>(lineStations.length);
+        for (int i = 0; i < lineStations.length; i++) {
+            Line line = new Line((i + 1) + "호선", "color-" + i);
+            for (int j = 0; j < lineDistances[i].length; j++) {
+                Station upStation = stations.get(lineStations[i][j]);
+                Station downStation = stations.get(lineStations[i][j + 1]);
+                line.addSection(upStation, downStation, lineDistances[i][j]);
+            }
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    public SubwayNetwork createSubwayNetwork() {
+        List<Station> stations = new ArrayList<>(stationCount);
+        for (int i = 0; i < stationCount; i++) {
+            stations.add(new Station(i + 1L, "역" + (i + 1)));
+        }
+        List<Line> lines = createLines(stations);
+        for (int i = 0; i < lines.size(); i++) {
+            lines.get(i).setId(i + 1L);
+        }
+        return SubwayNetwork.of(1L, lines);
+    }
+
+    public int getStationCount() {
+        return stationCount;
+    }
+}
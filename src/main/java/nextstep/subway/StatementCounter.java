@@ -0,0 +1,22 @@
+package nextstep.subway;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class StatementCounter implements StatementInspector {
+    private static final long serialVersionUID = 1L;
+    private static final ThreadLocal<int[]> COUNTS = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNTS.get()[0]++;
+        return sql;
+    }
+
+    public void reset() {
+        COUNTS.get()[0] = 0;
+    }
+
+    public int getCount() {
+        return COUNTS.get()[0];
+    }
+}
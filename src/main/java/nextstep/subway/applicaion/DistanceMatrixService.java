@@ -0,0 +1,97 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.CompiledNetwork;
+import nextstep.subway.domain.CsrGraph;
+import nextstep.subway.domain.DistanceMatrix;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class DistanceMatrixService {
+    private static final Logger log = LoggerFactory.getLogger(DistanceMatrixService.class);
+
+    private NetworkService networkService;
+    private TaskExecutor taskExecutor;
+    private DistanceMatrixStore store;
+    private boolean enabled;
+    private int maxStations;
+
+    private volatile DistanceMatrix matrix;
+    private volatile long builtVersion;
+    private final AtomicBoolean building = new AtomicBoolean();
+
+    public DistanceMatrixService(NetworkService networkService, TaskExecutor taskExecutor,
+                                 @Value("${subway.distance-matrix.enabled:false}") boolean enabled,
+                                 @Value("${subway.distance-matrix.max-stations:2000}") int maxStations,
+                                 @Value("${subway.distance-matrix.directory:${java.io.tmpdir}/subway-distance-matrix}") String directory) {
+        this.networkService = networkService;
+        this.taskExecutor = taskExecutor;
+        this.store = new DistanceMatrixStore(Paths.get(directory));
+        this.enabled = enabled;
+        this.maxStations = maxStations;
+    }
+
+    public DistanceMatrix getMatrix() {
+        if (!enabled) {
+            return null;
+        }
+        CompiledNetwork compiled = networkService.getCompiledNetwork();
+        DistanceMatrix current = matrix;
+        if (current != null && current.getVersion() == compiled.getVersion()) {
+            return current;
+        }
+        if (builtVersion != compiled.getVersion()) {
+            buildInBackground();
+        }
+        return null;
+    }
+
+    private void buildInBackground() {
+        if (!building.compareAndSet(false, true)) {
+            return;
+        }
+        taskExecutor.execute(() -> {
+            try {
+                CompiledNetwork compiled;
+                do {
+                    compiled = networkService.getCompiledNetwork();
+                    matrix = build(compiled, matrix);
+                    builtVersion = compiled.getVersion();
+                } while (compiled.getVersion() != networkService.getCompiledNetwork().getVersion());
+            } finally {
+                building.set(false);
+            }
+        });
+    }
+
+    private DistanceMatrix build(CompiledNetwork compiled, DistanceMatrix previous) {
+        byte[] digest = compiled.getNetwork().getDigest();
+        if (previous != null && previous.hasDigest(digest)) {
+            return previous.withVersion(compiled.getVersion());
+        }
+
+        CsrGraph graph = compiled.getGraph();
+        DistanceMatrix loaded = store.load(digest, graph.getStationIds(), compiled.getVersion()).orElse(null);
+        if (loaded != null) {
+            return loaded;
+        }
+        if (graph.getStationCount() > maxStations) {
+            return null;
+        }
+        DistanceMatrix computed = DistanceMatrix.compute(compiled, ForkJoinPool.commonPool());
+        try {
+            store.save(computed);
+        } catch (UncheckedIOException e) {
+            log.warn("Failed to save distance matrix of version {}", compiled.getVersion(), e);
+        }
+        return computed;
+    }
+}
@@ -0,0 +1,107 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.DistanceMatrix;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+
+public class DistanceMatrixStore {
+    private static final int MAGIC = 0x53444d32;
+    private static final int DIGEST_BYTES = 32;
+    private static final int HEADER_BYTES = Integer.BYTES + DIGEST_BYTES + Integer.BYTES;
+    private static final String PREFIX = "distance-matrix-";
+    private static final String SUFFIX = ".bin";
+
+    private final Path directory;
+
+    public DistanceMatrixStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public Optional<DistanceMatrix> load(byte[] digest, long[] expectedStationIds, long version) {
+        Path file = fileOf(digest);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (channel.size() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+                return Optional.empty();
+            }
+            byte[] storedDigest = new byte[DIGEST_BYTES];
+            buffer.get(storedDigest);
+            int stationCount = buffer.getInt();
+            if (!Arrays.equals(storedDigest, digest) || stationCount != expectedStationIds.length
+                    || channel.size() != sizeOf(stationCount)) {
+                return Optional.empty();
+            }
+
+            long[] stationIds = new long[stationCount];
+            buffer.asLongBuffer().get(stationIds);
+            buffer.position(buffer.position() + stationCount * Long.BYTES);
+            if (!Arrays.equals(stationIds, expectedStationIds)) {
+                return Optional.empty();
+            }
+            IntBuffer distances = buffer.slice().asIntBuffer();
+            return Optional.of(new DistanceMatrix(version, digest, stationIds, distances));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void save(DistanceMatrix matrix) {
+        long[] stationIds = matrix.getStationIds();
+        byte[] digest = matrix.getDigest();
+        Path file = fileOf(digest);
+        try {
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, PREFIX, ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, sizeOf(stationIds.length));
+                buffer.putInt(MAGIC).put(digest).putInt(stationIds.length);
+                buffer.asLongBuffer().put(stationIds);
+                buffer.position(buffer.position() + stationIds.length * Long.BYTES);
+                buffer.asIntBuffer().put(matrix.getDistances());
+                buffer.force();
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            deleteOthers(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteOthers(Path current) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path file : files) {
+                if (!file.equals(current)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private Path fileOf(byte[] digest) {
+        StringBuilder name = new StringBuilder(PREFIX);
+        for (byte value : digest) {
+            name.append(String.format("%02x", value));
+        }
+        return directory.resolve(name.append(SUFFIX).toString());
+    }
+
+    private long sizeOf(int stationCount) {
+        return HEADER_BYTES + (long) stationCount * Long.BYTES + (long) stationCount * stationCount * Integer.BYTES;
+    }
+}
@@ -0,0 +1,26 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.CsrGraph;
+import nextstep.subway.domain.FareTable;
+import org.springframework.stereotype.Service;
+
+@Service
+public class FareService {
+    private NetworkService networkService;
+
+    private volatile FareTable fareTable;
+
+    public FareService(NetworkService networkService) {
+        this.networkService = networkService;
+    }
+
+    public FareTable getFareTable() {
+        CsrGraph graph = networkService.getGraph();
+        FareTable current = fareTable;
+        if (current == null || current.getVersion() != graph.getVersion()) {
+            current = new FareTable(graph);
+            fareTable = current;
+        }
+        return current;
+    }
+}
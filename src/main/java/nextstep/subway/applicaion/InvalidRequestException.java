@@ -0,0 +1,5 @@
+package nextstep.subway.applicaion;
+
+public class InvalidRequestException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+}
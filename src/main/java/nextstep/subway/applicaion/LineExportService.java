@@ -0,0 +1,50 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+@Transactional(readOnly = true)
+public class LineExportService {
+    private static final int CHUNK_SIZE = 100;
+
+    private LineRepository lineRepository;
+    private LineService lineService;
+    private EntityManager entityManager;
+
+    public LineExportService(LineRepository lineRepository, LineService lineService, EntityManager entityManager) {
+        this.lineRepository = lineRepository;
+        this.lineService = lineService;
+        this.entityManager = entityManager;
+    }
+
+    public void exportLines(Consumer<LineResponse> consumer) {
+        try (Stream<Line> lines = lineRepository.streamAll()) {
+            List<Line> chunk = new ArrayList<>(CHUNK_SIZE);
+            Iterator<Line> iterator = lines.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    export(chunk, consumer);
+                }
+            }
+            export(chunk, consumer);
+        }
+    }
+
+    private void export(List<Line> chunk, Consumer<LineResponse> consumer) {
+        chunk.forEach(line -> consumer.accept(lineService.createLineResponse(line)));
+        chunk.clear();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,141 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.event.LineCreatedEvent;
+import nextstep.subway.applicaion.event.LineDeletedEvent;
+import nextstep.subway.applicaion.event.LineUpdatedEvent;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
+import nextstep.subway.applicaion.event.SectionAddedEvent;
+import nextstep.subway.applicaion.event.SectionRemovedEvent;
+import nextstep.subway.applicaion.event.StationDeletedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+@Component
+public class LineResponseCache {
+    public static final int EVICTION_ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    private Cache lineCache;
+    private Cache linesCache;
+
+    private volatile long generation;
+
+    public LineResponseCache(CacheManager cacheManager) {
+        this.lineCache = cacheManager.getCache(LineService.LINE_CACHE);
+        this.linesCache = cacheManager.getCache(LineService.LINES_CACHE);
+    }
+
+    public LineResponse getLine(Long id, Supplier<LineResponse> loader) {
+        return get(lineCache, id, loader);
+    }
+
+    public List<LineResponse> getLines(Supplier<List<LineResponse>> loader) {
+        return get(linesCache, SimpleKey.EMPTY, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Cache cache, Object key, Supplier<T> loader) {
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        long loadedAt = generation;
+        T value = loader.get();
+        putIfCurrent(cache, key, value, loadedAt);
+        return value;
+    }
+
+    // a load that started before an invalidation may have read the old rows, so its result is dropped
+    private synchronized void putIfCurrent(Cache cache, Object key, Object value, long loadedAt) {
+        if (generation == loadedAt) {
+            cache.put(key, value);
+        }
+    }
+
+    private synchronized void invalidate(Runnable eviction) {
+        generation++;
+        eviction.run();
+    }
+
+    @Order(EVICTION_ORDER)
+    @TransactionalEventListener
+    public void onLineCreated(LineCreatedEvent event) {
+        invalidate(linesCache::clear);
+    }
+
+    @Order(EVICTION_ORDER)
+    @TransactionalEventListener
+    public void onLineUpdated(LineUpdatedEvent event) {
+        evictLine(event.getLineId());
+    }
+
+    @Order(EVICTION_ORDER)
+    @TransactionalEventListener
+    public void onLineDeleted(LineDeletedEvent event) {
+        evictLine(event.getLineId());
+    }
+
+    @Order(EVICTION_ORDER)
+    @TransactionalEventListener
+    public void onSectionAdded(SectionAddedEvent event) {
+        evictLine(event.getSection().getLine().getId());
+    }
+
+    @Order(EVICTION_ORDER)
+    @TransactionalEventListener
+    public void onSectionRemoved(SectionRemovedEvent event) {
+        evictLine(event.getSection().getLine().getId());
+    }
+
+    @Order(EVICTION_ORDER)
+    @TransactionalEventListener
+    public void onStationDeleted(StationDeletedEvent event) {
+        invalidate(() -> {
+            removeIf(lineCache, it -> hasStation((LineResponse) it, event.getStationId()));
+            removeIf(linesCache, it -> ((List<?>) it).stream()
+                    .anyMatch(line -> hasStation((LineResponse) line, event.getStationId())));
+        });
+    }
+
+    @Order(EVICTION_ORDER)
+    @TransactionalEventListener
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        invalidate(() -> {
+            lineCache.clear();
+            linesCache.clear();
+        });
+    }
+
+    private void evictLine(Long lineId) {
+        invalidate(() -> {
+            lineCache.evict(lineId);
+            linesCache.clear();
+        });
+    }
+
+    private boolean hasStation(LineResponse line, Long stationId) {
+        return line.getStations().stream()
+                .anyMatch(it -> it.getId().equals(stationId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void removeIf(Cache cache, Predicate<Object> filter) {
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache)) {
+            cache.clear();
+            return;
+        }
+        Map<Object, Object> entries = ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache()).asMap();
+        entries.values().removeIf(filter);
+    }
+}
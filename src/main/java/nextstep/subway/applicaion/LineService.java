@@ -1,52 +1,123 @@
 package nextstep.subway.applicaion;
 
+import io.micrometer.core.annotation.Timed;
+import nextstep.subway.applicaion.dto.CursorResponse;
 import nextstep.subway.applicaion.dto.LineRequest;
 import nextstep.subway.applicaion.dto.LineResponse;
 import nextstep.subway.applicaion.dto.SectionRequest;
 import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.applicaion.event.LineCreatedEvent;
+import nextstep.subway.applicaion.event.LineDeletedEvent;
+import nextstep.subway.applicaion.event.LineUpdatedEvent;
+import nextstep.subway.applicaion.event.SectionAddedEvent;
+import nextstep.subway.applicaion.event.SectionRemovedEvent;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.LineSummary;
 import nextstep.subway.domain.Section;
 import nextstep.subway.domain.Station;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Collections;
+import javax.persistence.EntityManagerFactory;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class LineService {
+    public static final String LINE_CACHE = "line";
+    public static final String LINES_CACHE = "lines";
+
     private LineRepository lineRepository;
     private StationService stationService;
-
-    public LineService(LineRepository lineRepository, StationService stationService) {
+    private LineResponseCache lineResponseCache;
+    private ApplicationEventPublisher eventPublisher;
+    private TransactionTemplate transactionTemplate;
+    private EntityManagerFactory entityManagerFactory;
+    private int maxSectionEditAttempts;
+
+    public LineService(LineRepository lineRepository, StationService stationService, LineResponseCache lineResponseCache,
+                       ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                       EntityManagerFactory entityManagerFactory,
+                       @Value("${subway.line.section-edit.max-attempts:5}") int maxSectionEditAttempts) {
         this.lineRepository = lineRepository;
         this.stationService = stationService;
+        this.lineResponseCache = lineResponseCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.maxSectionEditAttempts = maxSectionEditAttempts;
     }
 
+    @Timed(value = StationService.SERVICE_METRIC, histogram = true)
     @Transactional
     public LineResponse saveLine(LineRequest request) {
-        Line line = lineRepository.save(new Line(request.getName(), request.getColor()));
+        int extraFare = request.getExtraFare() == null ? 0 : request.getExtraFare();
+        Line line = lineRepository.save(new Line(request.getName(), request.getColor(), extraFare));
+        eventPublisher.publishEvent(new LineCreatedEvent(line.getId()));
         if (request.getUpStationId() != null && request.getDownStationId() != null && request.getDistance() != 0) {
-            Station upStation = stationService.findById(request.getUpStationId());
-            Station downStation = stationService.findById(request.getDownStationId());
-            line.getSections().add(new Section(line, upStation, downStation, request.getDistance()));
+            Map<Long, Station> stations = stationService.findAllById(List.of(request.getUpStationId(), request.getDownStationId()));
+            Station upStation = stations.get(request.getUpStationId());
+            Station downStation = stations.get(request.getDownStationId());
+            Section section = line.addSection(upStation, downStation, request.getDistance());
+            eventPublisher.publishEvent(new SectionAddedEvent(section));
         }
         return createLineResponse(line);
     }
 
+    @Timed(value = StationService.SERVICE_METRIC, histogram = true)
     public List<LineResponse> showLines() {
-        return lineRepository.findAll().stream()
+        return lineResponseCache.getLines(() -> lineRepository.findAll().stream()
+                .map(this::createLineResponse)
+                .collect(Collectors.toList()));
+    }
+
+    @Timed(value = StationService.SERVICE_METRIC, histogram = true)
+    public CursorResponse<LineResponse> findLines(Long after, int size, boolean withStations) {
+        if (size < 1 || size > StationService.MAX_PAGE_SIZE) {
+            throw new InvalidRequestException();
+        }
+
+        List<LineSummary> summaries = lineRepository.findSummariesAfter(after, PageRequest.of(0, size));
+        Long next = summaries.size() == size ? summaries.get(size - 1).getId() : null;
+        if (!withStations) {
+            List<LineResponse> lines = summaries.stream()
+                    .map(it -> new LineResponse(it.getId(), it.getName(), it.getColor(), null))
+                    .collect(Collectors.toList());
+            return new CursorResponse<>(lines, next);
+        }
+
+        List<Long> ids = summaries.stream().map(LineSummary::getId).collect(Collectors.toList());
+        Map<Long, Line> lines = lineRepository.findAllByIdIn(ids).stream()
+                .collect(Collectors.toMap(Line::getId, Function.identity()));
+        List<LineResponse> responses = ids.stream()
+                .map(lines::get)
                 .map(this::createLineResponse)
                 .collect(Collectors.toList());
+        return new CursorResponse<>(responses, next);
     }
 
+    @Timed(value = StationService.SERVICE_METRIC, histogram = true)
     public LineResponse findById(Long id) {
-        return createLineResponse(lineRepository.findById(id).orElseThrow(IllegalArgumentException::new));
+        return lineResponseCache.getLine(id, () -> createLineResponse(lineRepository.findById(id).orElseThrow(IllegalArgumentException::new)));
     }
 
+    @Timed(value = StationService.SERVICE_METRIC, histogram = true)
     @Transactional
     public void updateLine(Long id, LineRequest lineRequest) {
         Line line = lineRepository.findById(id).orElseThrow(IllegalArgumentException::new);
@@ -57,23 +128,34 @@ public class LineService {
         if (lineRequest.getColor() != null) {
             line.setColor(lineRequest.getColor());
         }
+        if (lineRequest.getExtraFare() != null) {
+            line.setExtraFare(lineRequest.getExtraFare());
+        }
+        eventPublisher.publishEvent(new LineUpdatedEvent(line));
     }
 
+    @Timed(value = StationService.SERVICE_METRIC, histogram = true)
     @Transactional
     public void deleteLine(Long id) {
         lineRepository.deleteById(id);
+        eventPublisher.publishEvent(new LineDeletedEvent(id));
     }
 
-    @Transactional
+    @Timed(value = StationService.SERVICE_METRIC, histogram = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void addSection(Long lineId, SectionRequest sectionRequest) {
-        Station upStation = stationService.findById(sectionRequest.getUpStationId());
-        Station downStation = stationService.findById(sectionRequest.getDownStationId());
-        Line line = lineRepository.findById(lineId).orElseThrow(IllegalArgumentException::new);
-
-        line.getSections().add(new Section(line, upStation, downStation, sectionRequest.getDistance()));
+        editSections(lineId, () -> {
+            Map<Long, Station> stations = stationService.findAllById(List.of(sectionRequest.getUpStationId(), sectionRequest.getDownStationId()));
+            Station upStation = stations.get(sectionRequest.getUpStationId());
+            Station downStation = stations.get(sectionRequest.getDownStationId());
+            Line line = lineRepository.findByIdForUpdate(lineId).orElseThrow(IllegalArgumentException::new);
+
+            Section section = line.addSection(upStation, downStation, sectionRequest.getDistance());
+            eventPublisher.publishEvent(new SectionAddedEvent(section));
+        });
     }
 
-    private LineResponse createLineResponse(Line line) {
+    LineResponse createLineResponse(Line line) {
         return new LineResponse(
                 line.getId(),
                 line.getName(),
@@ -82,31 +164,58 @@ public class LineService {
         );
     }
 
-    private List<StationResponse> createStationResponses(Line line) {
-        if (line.getSections().isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        List<Station> stations = line.getSections().stream()
-                .map(Section::getDownStation)
-                .collect(Collectors.toList());
+    List<StationResponse> createStationResponses(Line line) {
+        return stationService.createStationResponses(line.getStations());
+    }
 
-        stations.add(0, line.getSections().get(0).getUpStation());
+    @Timed(value = StationService.SERVICE_METRIC, histogram = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void deleteSection(Long lineId, Long stationId) {
+        editSections(lineId, () -> {
+            Line line = lineRepository.findByIdForUpdate(lineId).orElseThrow(IllegalArgumentException::new);
+            Station station = stationService.findById(stationId);
 
-        return stations.stream()
-                .map(it -> stationService.createStationResponse(it))
-                .collect(Collectors.toList());
+            Section section = line.removeSection(station);
+            eventPublisher.publishEvent(new SectionRemovedEvent(section));
+        });
     }
 
-    @Transactional
-    public void deleteSection(Long lineId, Long stationId) {
-        Line line = lineRepository.findById(lineId).orElseThrow(IllegalArgumentException::new);
-        Station station = stationService.findById(stationId);
+    private void editSections(Long lineId, Runnable edit) {
+        boolean retryable = !TransactionSynchronizationManager.isActualTransactionActive();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    withoutSecondLevelCache(edit);
+                    evictLineAfterCommit(lineId);
+                });
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                if (!retryable || attempt >= maxSectionEditAttempts) {
+                    throw e;
+                }
+            }
+        }
+    }
 
-        if (!line.getSections().get(line.getSections().size() - 1).getDownStation().equals(station)) {
-            throw new IllegalArgumentException();
+    // a cached sections collection may predate a concurrent edit and still name the sections it deleted
+    private void withoutSecondLevelCache(Runnable edit) {
+        Session session = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory).unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try {
+            edit.run();
+        } finally {
+            session.setCacheMode(cacheMode);
         }
+    }
 
-        line.getSections().remove(line.getSections().size() - 1);
+    // the forced version increment is not written to the second-level cache, which would keep the old version
+    private void evictLineAfterCommit(Long lineId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(Line.class, lineId);
+            }
+        });
     }
 }
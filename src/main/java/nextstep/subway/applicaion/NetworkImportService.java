@@ -0,0 +1,156 @@
+package nextstep.subway.applicaion;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.subway.applicaion.dto.LineImportRequest;
+import nextstep.subway.applicaion.dto.NetworkImportResponse;
+import nextstep.subway.applicaion.dto.SectionImportRequest;
+import nextstep.subway.applicaion.dto.StationRequest;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class NetworkImportService {
+    private StationRepository stationRepository;
+    private LineRepository lineRepository;
+    private ObjectMapper objectMapper;
+    private ApplicationEventPublisher eventPublisher;
+    private TransactionTemplate transactionTemplate;
+    private int chunkSize;
+
+    public NetworkImportService(StationRepository stationRepository, LineRepository lineRepository, ObjectMapper objectMapper,
+                                ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                                @Value("${subway.import.chunk-size:1000}") int chunkSize) {
+        this.stationRepository = stationRepository;
+        this.lineRepository = lineRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public NetworkImportResponse importNetwork(InputStream input) throws IOException {
+        long startedAt = System.nanoTime();
+        Map<String, Long> stationIds = new HashMap<>();
+        int lineCount = 0;
+        int sectionCount = 0;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                expect(parser.nextToken(), JsonToken.START_ARRAY);
+                if ("stations".equals(field)) {
+                    importStations(parser, stationIds);
+                } else if ("lines".equals(field)) {
+                    parser.nextToken();
+                    while (parser.currentToken() == JsonToken.START_OBJECT) {
+                        List<LineImportRequest> chunk = readLines(parser);
+                        importLines(chunk, stationIds);
+                        lineCount += chunk.size();
+                        sectionCount += chunk.stream().mapToInt(it -> it.getSections().size()).sum();
+                    }
+                    expect(parser.currentToken(), JsonToken.END_ARRAY);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        return new NetworkImportResponse(stationIds.size(), lineCount, sectionCount, elapsedMillis);
+    }
+
+    private void importStations(JsonParser parser, Map<String, Long> stationIds) throws IOException {
+        List<StationRequest> chunk = new ArrayList<>(chunkSize);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            chunk.add(parser.readValueAs(StationRequest.class));
+            if (chunk.size() == chunkSize) {
+                saveStations(chunk, stationIds);
+                chunk.clear();
+            }
+        }
+        expect(parser.currentToken(), JsonToken.END_ARRAY);
+        if (!chunk.isEmpty()) {
+            saveStations(chunk, stationIds);
+        }
+    }
+
+    private void saveStations(List<StationRequest> chunk, Map<String, Long> stationIds) {
+        List<Station> stations = new ArrayList<>(chunk.size());
+        Set<String> names = new HashSet<>();
+        for (StationRequest request : chunk) {
+            if (stationIds.containsKey(request.getName()) || !names.add(request.getName())) {
+                throw new IllegalArgumentException();
+            }
+            stations.add(new Station(request.getName()));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            stationRepository.saveAll(stations);
+            eventPublisher.publishEvent(new NetworkChangedEvent());
+        });
+        stations.forEach(it -> stationIds.put(it.getName(), it.getId()));
+    }
+
+    private List<LineImportRequest> readLines(JsonParser parser) throws IOException {
+        List<LineImportRequest> chunk = new ArrayList<>();
+        int sectionCount = 0;
+        do {
+            LineImportRequest line = parser.readValueAs(LineImportRequest.class);
+            chunk.add(line);
+            sectionCount += line.getSections().size() + 1;
+            parser.nextToken();
+        } while (sectionCount < chunkSize && parser.currentToken() == JsonToken.START_OBJECT);
+        return chunk;
+    }
+
+    private void importLines(List<LineImportRequest> chunk, Map<String, Long> stationIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Station> stations = new HashMap<>();
+            for (LineImportRequest request : chunk) {
+                Line line = new Line(request.getName(), request.getColor(), request.getExtraFare());
+                for (SectionImportRequest section : request.getSections()) {
+                    Station upStation = stationOf(section.getUpStation(), stationIds, stations);
+                    Station downStation = stationOf(section.getDownStation(), stationIds, stations);
+                    line.addSection(upStation, downStation, section.getDistance());
+                }
+                lineRepository.save(line);
+            }
+            eventPublisher.publishEvent(new NetworkChangedEvent());
+        });
+    }
+
+    private Station stationOf(String name, Map<String, Long> stationIds, Map<Long, Station> stations) {
+        Long id = stationIds.get(name);
+        if (id == null) {
+            throw new IllegalArgumentException();
+        }
+        return stations.computeIfAbsent(id, stationRepository::getById);
+    }
+
+    private void expect(JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
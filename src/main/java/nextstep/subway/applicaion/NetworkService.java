@@ -0,0 +1,185 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.event.LineCreatedEvent;
+import nextstep.subway.applicaion.event.LineDeletedEvent;
+import nextstep.subway.applicaion.event.LineUpdatedEvent;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
+import nextstep.subway.applicaion.event.SectionAddedEvent;
+import nextstep.subway.applicaion.event.SectionRemovedEvent;
+import nextstep.subway.applicaion.event.StationDeletedEvent;
+import nextstep.subway.domain.CompiledNetwork;
+import nextstep.subway.domain.CsrGraph;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.NetworkRevision;
+import nextstep.subway.domain.NetworkRevisionRepository;
+import nextstep.subway.domain.SubwayNetwork;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Paths;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+
+@Service
+public class NetworkService {
+    private LineRepository lineRepository;
+    private NetworkRevisionRepository revisionRepository;
+    private TransactionTemplate transactionTemplate;
+    private TaskExecutor taskExecutor;
+    private NetworkSnapshotStore snapshotStore;
+    private boolean snapshotEnabled;
+
+    private volatile CompiledNetwork compiled;
+    private long lastVersion;
+    private final AtomicBoolean savingSnapshot = new AtomicBoolean();
+
+    public NetworkService(LineRepository lineRepository, NetworkRevisionRepository revisionRepository,
+                          PlatformTransactionManager transactionManager, TaskExecutor taskExecutor,
+                          @Value("${subway.network-snapshot.enabled:false}") boolean snapshotEnabled,
+                          @Value("${subway.network-snapshot.directory:${java.io.tmpdir}/subway-network-snapshot}") String snapshotDirectory) {
+        this.lineRepository = lineRepository;
+        this.revisionRepository = revisionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.taskExecutor = taskExecutor;
+        this.snapshotStore = new NetworkSnapshotStore(Paths.get(snapshotDirectory));
+        this.snapshotEnabled = snapshotEnabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!snapshotEnabled) {
+            // writes do not move the revision while disabled, so an older snapshot must not survive a later enable
+            snapshotStore.delete();
+            return;
+        }
+        if (revisionRepository.count() == 0) {
+            // a fresh database starts at a random revision so that it never matches a snapshot of another database
+            revisionRepository.save(new NetworkRevision(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE / 2)));
+        }
+        getNetwork();
+    }
+
+    public CompiledNetwork getCompiledNetwork() {
+        CompiledNetwork current = compiled;
+        if (current != null) {
+            return current;
+        }
+        return loadNetwork();
+    }
+
+    public SubwayNetwork getNetwork() {
+        return getCompiledNetwork().getNetwork();
+    }
+
+    public CsrGraph getGraph() {
+        return getCompiledNetwork().getGraph();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, classes = {
+            LineCreatedEvent.class, LineUpdatedEvent.class, LineDeletedEvent.class, SectionAddedEvent.class,
+            SectionRemovedEvent.class, StationDeletedEvent.class, NetworkChangedEvent.class})
+    public void incrementRevision() {
+        if (snapshotEnabled) {
+            revisionRepository.increment();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onSectionAdded(SectionAddedEvent event) {
+        update(network -> network.replaceLine(event.getSection().getLine()));
+    }
+
+    @TransactionalEventListener
+    public void onSectionRemoved(SectionRemovedEvent event) {
+        update(network -> network.replaceLine(event.getSection().getLine()));
+    }
+
+    @TransactionalEventListener
+    public void onLineUpdated(LineUpdatedEvent event) {
+        update(network -> network.changeExtraFare(event.getLine()));
+    }
+
+    @TransactionalEventListener
+    public void onLineDeleted(LineDeletedEvent event) {
+        update(network -> network.removeLine(event.getLineId()));
+    }
+
+    @TransactionalEventListener
+    public void onStationDeleted(StationDeletedEvent event) {
+        update(network -> network.removeStation(event.getStationId()));
+    }
+
+    @TransactionalEventListener
+    public synchronized void onNetworkChanged(NetworkChangedEvent event) {
+        compiled = null;
+    }
+
+    private synchronized CompiledNetwork loadNetwork() {
+        if (compiled == null) {
+            boolean firstLoad = lastVersion == 0;
+            long version = ++lastVersion;
+            SubwayNetwork restored = firstLoad && snapshotEnabled ? restoreSnapshot(version) : null;
+            if (restored != null) {
+                compiled = new CompiledNetwork(restored);
+            } else {
+                SubwayNetwork loaded = transactionTemplate.execute(status -> SubwayNetwork.of(version, lineRepository.findAll()));
+                compiled = new CompiledNetwork(loaded);
+                saveSnapshotInBackground();
+            }
+        }
+        return compiled;
+    }
+
+    private SubwayNetwork restoreSnapshot(long version) {
+        return transactionTemplate.execute(status -> revisionRepository.findRevision()
+                .flatMap(revision -> snapshotStore.load(revision, version))
+                .orElse(null));
+    }
+
+    private synchronized void update(UnaryOperator<SubwayNetwork> delta) {
+        if (compiled == null) {
+            return;
+        }
+        SubwayNetwork previous = compiled.getNetwork();
+        SubwayNetwork next = delta.apply(previous);
+        lastVersion = next.getVersion();
+        if (next != previous) {
+            compiled = new CompiledNetwork(next);
+            saveSnapshotInBackground();
+        }
+    }
+
+    private void saveSnapshotInBackground() {
+        if (!snapshotEnabled || !savingSnapshot.compareAndSet(false, true)) {
+            return;
+        }
+        taskExecutor.execute(() -> {
+            try {
+                CompiledNetwork saved;
+                do {
+                    saved = compiled;
+                    if (saved != null) {
+                        saveSnapshot(saved.getVersion());
+                    }
+                } while (saved != compiled);
+            } finally {
+                savingSnapshot.set(false);
+            }
+        });
+    }
+
+    private void saveSnapshot(long version) {
+        // the revision is read first so that a snapshot is never tagged newer than its content
+        transactionTemplate.executeWithoutResult(status -> revisionRepository.findRevision()
+                .ifPresent(revision -> snapshotStore.save(revision, SubwayNetwork.of(version, lineRepository.findAll()))));
+    }
+}
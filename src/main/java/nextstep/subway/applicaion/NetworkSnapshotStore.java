@@ -0,0 +1,161 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.NetworkSection;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.SubwayNetwork;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+public class NetworkSnapshotStore {
+    private static final int MAGIC = 0x53534e32;
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES + 3 * Integer.BYTES;
+    private static final int LINE_BYTES = Long.BYTES + 2 * Integer.BYTES;
+    private static final int SECTION_BYTES = Long.BYTES + 3 * Integer.BYTES;
+    private static final String FILE_NAME = "network-snapshot.bin";
+
+    private final Path directory;
+
+    public NetworkSnapshotStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public Optional<SubwayNetwork> load(long revision, long version) {
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES + Long.BYTES) {
+                return Optional.empty();
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getLong() != revision || !hasValidChecksum(buffer)) {
+                return Optional.empty();
+            }
+            return Optional.of(read(buffer, version));
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+
+    private boolean hasValidChecksum(ByteBuffer buffer) {
+        ByteBuffer content = buffer.duplicate();
+        content.position(0).limit(buffer.limit() - Long.BYTES);
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue() == buffer.getLong(buffer.limit() - Long.BYTES);
+    }
+
+    private SubwayNetwork read(ByteBuffer buffer, long version) {
+        int stationCount = buffer.getInt();
+        int lineCount = buffer.getInt();
+        buffer.getInt();
+
+        Station[] stations = new Station[stationCount];
+        for (int i = 0; i < stationCount; i++) {
+            long id = buffer.getLong();
+            byte[] name = new byte[buffer.getInt()];
+            buffer.get(name);
+            stations[i] = new Station(id, new String(name, StandardCharsets.UTF_8));
+        }
+
+        Map<Long, List<NetworkSection>> lineSections = new HashMap<>();
+        Map<Long, Integer> extraFares = new HashMap<>();
+        for (int i = 0; i < lineCount; i++) {
+            long lineId = buffer.getLong();
+            extraFares.put(lineId, buffer.getInt());
+            int sectionCount = buffer.getInt();
+            List<NetworkSection> sections = new ArrayList<>(sectionCount);
+            for (int j = 0; j < sectionCount; j++) {
+                long sectionId = buffer.getLong();
+                Station upStation = stations[buffer.getInt()];
+                Station downStation = stations[buffer.getInt()];
+                sections.add(new NetworkSection(sectionId, lineId, upStation, downStation, buffer.getInt()));
+            }
+            lineSections.put(lineId, sections);
+        }
+        return SubwayNetwork.restore(version, lineSections, extraFares);
+    }
+
+    public void save(long revision, SubwayNetwork network) {
+        List<NetworkSection> allSections = network.getSections();
+        Map<Long, Integer> stationIndexes = new HashMap<>();
+        Map<Long, byte[]> stationNames = new LinkedHashMap<>();
+        for (NetworkSection section : allSections) {
+            for (Station station : new Station[]{section.getUpStation(), section.getDownStation()}) {
+                if (!stationIndexes.containsKey(station.getId())) {
+                    stationIndexes.put(station.getId(), stationIndexes.size());
+                    stationNames.put(station.getId(), station.getName().getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        }
+        Set<Long> lineIds = network.getLineIds();
+        long size = sizeOf(stationNames, lineIds.size(), allSections.size());
+
+        try {
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, FILE_NAME, ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(MAGIC).putLong(revision);
+                buffer.putInt(stationNames.size()).putInt(lineIds.size()).putInt(allSections.size());
+                stationNames.forEach((id, name) -> buffer.putLong(id).putInt(name.length).put(name));
+                for (Long lineId : lineIds) {
+                    List<NetworkSection> sections = network.getSections(lineId);
+                    buffer.putLong(lineId).putInt(network.getExtraFare(lineId)).putInt(sections.size());
+                    for (NetworkSection section : sections) {
+                        buffer.putLong(section.getId())
+                                .putInt(stationIndexes.get(section.getUpStation().getId()))
+                                .putInt(stationIndexes.get(section.getDownStation().getId()))
+                                .putInt(section.getDistance());
+                    }
+                }
+
+                ByteBuffer content = buffer.duplicate();
+                content.flip();
+                CRC32 crc = new CRC32();
+                crc.update(content);
+                buffer.putLong(crc.getValue());
+                buffer.force();
+            }
+            Files.move(temporary, directory.resolve(FILE_NAME), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete() {
+        try {
+            Files.deleteIfExists(directory.resolve(FILE_NAME));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long sizeOf(Map<Long, byte[]> stationNames, int lineCount, int sectionCount) {
+        long size = HEADER_BYTES + (long) lineCount * LINE_BYTES + (long) sectionCount * SECTION_BYTES + Long.BYTES;
+        for (byte[] name : stationNames.values()) {
+            size += Long.BYTES + Integer.BYTES + name.length;
+        }
+        return size;
+    }
+}
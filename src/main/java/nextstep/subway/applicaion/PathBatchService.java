@@ -0,0 +1,133 @@
+package nextstep.subway.applicaion;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.subway.domain.BatchDistances;
+import nextstep.subway.domain.CsrGraph;
+import nextstep.subway.domain.FareDiscount;
+import nextstep.subway.domain.FareTable;
+import nextstep.subway.domain.SearchState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+public class PathBatchService {
+    private static final String INVALID_PAIR = "source and target must be station ids";
+    private static final String MALFORMED_INPUT = "malformed input";
+
+    private NetworkService networkService;
+    private FareService fareService;
+    private ObjectMapper objectMapper;
+    private int chunkSize;
+
+    private volatile BatchDistances batchDistances;
+
+    public PathBatchService(NetworkService networkService, FareService fareService, ObjectMapper objectMapper,
+                            @Value("${subway.path.batch.chunk-size:10000}") int chunkSize) {
+        this.networkService = networkService;
+        this.fareService = fareService;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public void findDistances(InputStream input, OutputStream output, FareDiscount discount) throws IOException {
+        long[] sources = new long[chunkSize];
+        long[] targets = new long[chunkSize];
+        boolean[] invalid = new boolean[chunkSize];
+        try (JsonParser parser = objectMapper.getFactory().createParser(input);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            int count = 0;
+            boolean malformed = false;
+            try {
+                JsonToken token = parser.nextToken();
+                boolean array = token == JsonToken.START_ARRAY;
+                if (array) {
+                    token = parser.nextToken();
+                }
+
+                while (token == JsonToken.START_OBJECT) {
+                    JsonNode pair = parser.readValueAsTree();
+                    invalid[count] = !isValidPair(pair);
+                    sources[count] = invalid[count] ? 0L : pair.get("source").asLong();
+                    targets[count] = invalid[count] ? 0L : pair.get("target").asLong();
+                    if (++count == chunkSize) {
+                        writeDistances(generator, sources, targets, invalid, count, discount);
+                        count = 0;
+                    }
+                    token = parser.nextToken();
+                }
+                malformed = token != null && !(array && token == JsonToken.END_ARRAY);
+            } catch (JsonParseException e) {
+                malformed = true;
+            }
+            writeDistances(generator, sources, targets, invalid, count, discount);
+            if (malformed) {
+                writeError(generator, MALFORMED_INPUT);
+            }
+        }
+    }
+
+    private boolean isValidPair(JsonNode pair) {
+        return isStationId(pair.path("source")) && isStationId(pair.path("target"));
+    }
+
+    private boolean isStationId(JsonNode node) {
+        return node.isIntegralNumber() && node.canConvertToLong();
+    }
+
+    private void writeDistances(JsonGenerator generator, long[] sources, long[] targets, boolean[] invalid, int count,
+                                FareDiscount discount) throws IOException {
+        int[] extraFares = new int[count];
+        int[] distances = batchDistances().findDistances(sources, targets, count, extraFares, ForkJoinPool.commonPool());
+        FareTable fareTable = fareService.getFareTable();
+        for (int i = 0; i < count; i++) {
+            if (invalid[i]) {
+                writeError(generator, INVALID_PAIR);
+                continue;
+            }
+            generator.writeStartObject();
+            generator.writeNumberField("source", sources[i]);
+            generator.writeNumberField("target", targets[i]);
+            if (distances[i] == SearchState.UNREACHABLE) {
+                generator.writeNullField("distance");
+                generator.writeNullField("fare");
+            } else {
+                generator.writeNumberField("distance", distances[i]);
+                generator.writeNumberField("fare", fareTable.findFare(distances[i], extraFares[i], discount));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    private void writeError(JsonGenerator generator, String message) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("error", message);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+
+    private BatchDistances batchDistances() {
+        CsrGraph graph = networkService.getGraph();
+        BatchDistances current = batchDistances;
+        if (current == null || current.getVersion() != graph.getVersion()) {
+            current = new BatchDistances(graph);
+            batchDistances = current;
+        }
+        return current;
+    }
+}
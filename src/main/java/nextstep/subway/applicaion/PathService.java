@@ -0,0 +1,185 @@
+package nextstep.subway.applicaion;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.subway.applicaion.dto.AlternativePathsResponse;
+import nextstep.subway.applicaion.dto.DistanceResponse;
+import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.applicaion.dto.TransferPathResponse;
+import nextstep.subway.applicaion.event.LineDeletedEvent;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
+import nextstep.subway.applicaion.event.SectionAddedEvent;
+import nextstep.subway.applicaion.event.SectionRemovedEvent;
+import nextstep.subway.applicaion.event.StationDeletedEvent;
+import nextstep.subway.domain.AlternativePaths;
+import nextstep.subway.domain.CompiledNetwork;
+import nextstep.subway.domain.CsrGraph;
+import nextstep.subway.domain.DistanceMatrix;
+import nextstep.subway.domain.FareDiscount;
+import nextstep.subway.domain.FareTable;
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.PathStrategy;
+import nextstep.subway.domain.TransferAwarePathFinder;
+import nextstep.subway.domain.TransferPath;
+import nextstep.subway.domain.TransferPriority;
+import nextstep.subway.domain.YenKShortestPaths;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+@Service
+public class PathService {
+    public static final int MAX_ALTERNATIVES = 10;
+
+    private NetworkService networkService;
+    private StationService stationService;
+    private DistanceMatrixService distanceMatrixService;
+    private FareService fareService;
+    private PathStrategy strategy;
+    private TaskExecutor taskExecutor;
+    private long alternativesTimeBudgetNanos;
+    private int transferPenalty;
+    private DistributionSummary settledNodes;
+    private DistributionSummary heapOperations;
+
+    private volatile PathFinder pathFinder;
+    private volatile YenKShortestPaths alternatives;
+    private volatile TransferAwarePathFinder transferAwarePathFinder;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public PathService(NetworkService networkService, StationService stationService, DistanceMatrixService distanceMatrixService,
+                       FareService fareService,
+                       @Value("${subway.path.strategy:CSR_REUSABLE}") PathStrategy strategy, TaskExecutor taskExecutor,
+                       @Value("${subway.path.alternatives.time-budget-millis:50}") long alternativesTimeBudgetMillis,
+                       @Value("${subway.path.transfer-penalty:5}") int transferPenalty, MeterRegistry meterRegistry) {
+        this.networkService = networkService;
+        this.stationService = stationService;
+        this.distanceMatrixService = distanceMatrixService;
+        this.fareService = fareService;
+        this.strategy = strategy;
+        this.taskExecutor = taskExecutor;
+        this.alternativesTimeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(alternativesTimeBudgetMillis);
+        this.transferPenalty = transferPenalty;
+        this.settledNodes = searchSummary("subway.path.settled.nodes", meterRegistry);
+        this.heapOperations = searchSummary("subway.path.heap.operations", meterRegistry);
+    }
+
+    private DistributionSummary searchSummary(String name, MeterRegistry meterRegistry) {
+        return DistributionSummary.builder(name)
+                .tag("strategy", strategy.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public PathResponse findPath(Long source, Long target, FareDiscount discount) {
+        Path path = pathFinder().findPath(source, target);
+        if (path.getSettledCount() > 0) {
+            settledNodes.record(path.getSettledCount());
+            heapOperations.record(path.getHeapOperationCount());
+        }
+        return createPathResponse(path, fareService.getFareTable(), discount);
+    }
+
+    public TransferPathResponse findPath(Long source, Long target, TransferPriority priority, FareDiscount discount) {
+        TransferPath path = transferAwarePathFinder().findPath(source, target, priority, transferPenalty);
+
+        List<StationResponse> stations = stationService.createStationResponses(path.getStations());
+        int fare = fareService.getFareTable().findFare(path, discount);
+        return new TransferPathResponse(stations, path.getDistance(), fare, path.getTransferCount());
+    }
+
+    public AlternativePathsResponse findAlternativePaths(Long source, Long target, int k, double maxDetourRatio, FareDiscount discount) {
+        if (k > MAX_ALTERNATIVES) {
+            throw new IllegalArgumentException();
+        }
+
+        long deadline = System.nanoTime() + alternativesTimeBudgetNanos;
+        AlternativePaths paths = alternatives().find(source, target, k, maxDetourRatio, deadline);
+        FareTable fareTable = fareService.getFareTable();
+        List<PathResponse> responses = paths.getPaths().stream()
+                .map(it -> createPathResponse(it, fareTable, discount))
+                .collect(Collectors.toList());
+        return new AlternativePathsResponse(responses, paths.isComplete());
+    }
+
+    private PathResponse createPathResponse(Path path, FareTable fareTable, FareDiscount discount) {
+        List<StationResponse> stations = stationService.createStationResponses(path.getStations());
+        return new PathResponse(stations, path.getDistance(), fareTable.findFare(path, discount));
+    }
+
+    public DistanceResponse findDistance(Long source, Long target) {
+        DistanceMatrix matrix = distanceMatrixService.getMatrix();
+        if (matrix != null) {
+            return new DistanceResponse(matrix.findDistance(source, target));
+        }
+        return new DistanceResponse(pathFinder().findPath(source, target).getDistance());
+    }
+
+    @TransactionalEventListener(classes = {SectionAddedEvent.class, SectionRemovedEvent.class, LineDeletedEvent.class,
+            StationDeletedEvent.class, NetworkChangedEvent.class})
+    public void onNetworkChanged() {
+        if (strategy.isRebuiltInBackground() && pathFinder != null) {
+            rebuildInBackground();
+        }
+    }
+
+    private PathFinder pathFinder() {
+        CompiledNetwork compiled = networkService.getCompiledNetwork();
+        PathFinder current = pathFinder;
+        if (current != null && current.getVersion() == compiled.getVersion()) {
+            return current;
+        }
+        if (current != null && strategy.isRebuiltInBackground()) {
+            rebuildInBackground();
+            return current;
+        }
+        current = strategy.create(compiled);
+        pathFinder = current;
+        return current;
+    }
+
+    private YenKShortestPaths alternatives() {
+        CsrGraph graph = networkService.getGraph();
+        YenKShortestPaths current = alternatives;
+        if (current == null || current.getVersion() != graph.getVersion()) {
+            current = new YenKShortestPaths(graph);
+            alternatives = current;
+        }
+        return current;
+    }
+
+    private TransferAwarePathFinder transferAwarePathFinder() {
+        CsrGraph graph = networkService.getGraph();
+        TransferAwarePathFinder current = transferAwarePathFinder;
+        if (current == null || current.getVersion() != graph.getVersion()) {
+            current = new TransferAwarePathFinder(graph);
+            transferAwarePathFinder = current;
+        }
+        return current;
+    }
+
+    private void rebuildInBackground() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        taskExecutor.execute(() -> {
+            try {
+                CompiledNetwork compiled;
+                do {
+                    compiled = networkService.getCompiledNetwork();
+                    pathFinder = strategy.create(compiled);
+                } while (compiled.getVersion() != networkService.getCompiledNetwork().getVersion());
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
+import nextstep.subway.applicaion.event.StationCreatedEvent;
+import nextstep.subway.applicaion.event.StationDeletedEvent;
+import nextstep.subway.domain.StationNameIndex;
+import nextstep.subway.domain.StationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+@Service
+public class StationSearchService {
+    public static final int MAX_LIMIT = 50;
+
+    private StationRepository stationRepository;
+    private TransactionTemplate transactionTemplate;
+
+    private volatile StationNameIndex index;
+
+    public StationSearchService(StationRepository stationRepository, PlatformTransactionManager transactionManager) {
+        this.stationRepository = stationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public List<StationResponse> search(String prefix, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException();
+        }
+        return getIndex().search(prefix, limit).stream()
+                .map(it -> new StationResponse(it.getId(), it.getName()))
+                .collect(Collectors.toList());
+    }
+
+    @TransactionalEventListener
+    public void onStationCreated(StationCreatedEvent event) {
+        update(index -> index.with(event.getStation()));
+    }
+
+    @TransactionalEventListener
+    public void onStationDeleted(StationDeletedEvent event) {
+        update(index -> index.without(event.getStationId()));
+    }
+
+    @TransactionalEventListener
+    public synchronized void onNetworkChanged(NetworkChangedEvent event) {
+        index = null;
+    }
+
+    private StationNameIndex getIndex() {
+        StationNameIndex current = index;
+        if (current != null) {
+            return current;
+        }
+        return loadIndex();
+    }
+
+    private synchronized StationNameIndex loadIndex() {
+        if (index == null) {
+            index = transactionTemplate.execute(status -> StationNameIndex.of(stationRepository.findAll()));
+        }
+        return index;
+    }
+
+    private synchronized void update(UnaryOperator<StationNameIndex> delta) {
+        if (index == null) {
+            return;
+        }
+        index = delta.apply(index);
+    }
+}
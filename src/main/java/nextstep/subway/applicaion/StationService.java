@@ -1,39 +1,79 @@
 package nextstep.subway.applicaion;
 
+import io.micrometer.core.annotation.Timed;
+import nextstep.subway.applicaion.dto.CursorResponse;
 import nextstep.subway.applicaion.dto.StationRequest;
 import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.applicaion.event.StationCreatedEvent;
+import nextstep.subway.applicaion.event.StationDeletedEvent;
 import nextstep.subway.domain.Station;
 import nextstep.subway.domain.StationRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class StationService {
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final String SERVICE_METRIC = "subway.service";
+
     private StationRepository stationRepository;
+    private ApplicationEventPublisher eventPublisher;
 
-    public StationService(StationRepository stationRepository) {
+    public StationService(StationRepository stationRepository, ApplicationEventPublisher eventPublisher) {
         this.stationRepository = stationRepository;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Timed(value = SERVICE_METRIC, histogram = true)
     @Transactional
     public StationResponse saveStation(StationRequest stationRequest) {
         Station station = stationRepository.save(new Station(stationRequest.getName()));
+        eventPublisher.publishEvent(new StationCreatedEvent(station));
         return createStationResponse(station);
     }
 
+    @Timed(value = SERVICE_METRIC, histogram = true)
     public List<StationResponse> findAllStations() {
         return stationRepository.findAll().stream()
                 .map(this::createStationResponse)
                 .collect(Collectors.toList());
     }
 
+    @Timed(value = SERVICE_METRIC, histogram = true)
+    public CursorResponse<StationResponse> findStations(Long after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException();
+        }
+
+        List<StationResponse> stations = stationRepository.findSummariesAfter(after, PageRequest.of(0, size)).stream()
+                .map(it -> new StationResponse(it.getId(), it.getName()))
+                .collect(Collectors.toList());
+        Long next = stations.size() == size ? stations.get(size - 1).getId() : null;
+        return new CursorResponse<>(stations, next);
+    }
+
+    @Timed(value = SERVICE_METRIC, histogram = true)
     @Transactional
     public void deleteStationById(Long id) {
         stationRepository.deleteById(id);
+        eventPublisher.publishEvent(new StationDeletedEvent(id));
+    }
+
+    public List<StationResponse> createStationResponses(List<Station> stations) {
+        return stations.stream()
+                .map(this::createStationResponse)
+                .collect(Collectors.toList());
     }
 
     public StationResponse createStationResponse(Station station) {
@@ -43,7 +83,19 @@ public class StationService {
         );
     }
 
+    @Timed(value = SERVICE_METRIC, histogram = true)
     public Station findById(Long id) {
         return stationRepository.findById(id).orElseThrow(IllegalArgumentException::new);
     }
+
+    @Timed(value = SERVICE_METRIC, histogram = true)
+    public Map<Long, Station> findAllById(Collection<Long> ids) {
+        Set<Long> distinctIds = new HashSet<>(ids);
+        Map<Long, Station> stations = stationRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+        if (stations.size() != distinctIds.size()) {
+            throw new IllegalArgumentException();
+        }
+        return stations;
+    }
 }
@@ -0,0 +1,24 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class AlternativePathsResponse {
+    private List<PathResponse> paths;
+    private boolean complete;
+
+    public AlternativePathsResponse() {
+    }
+
+    public AlternativePathsResponse(List<PathResponse> paths, boolean complete) {
+        this.paths = paths;
+        this.complete = complete;
+    }
+
+    public List<PathResponse> getPaths() {
+        return paths;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+}
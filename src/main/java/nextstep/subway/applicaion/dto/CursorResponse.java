@@ -0,0 +1,24 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class CursorResponse<T> {
+    private List<T> content;
+    private Long next;
+
+    public CursorResponse() {
+    }
+
+    public CursorResponse(List<T> content, Long next) {
+        this.content = content;
+        this.next = next;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public Long getNext() {
+        return next;
+    }
+}
@@ -0,0 +1,16 @@
+package nextstep.subway.applicaion.dto;
+
+public class DistanceResponse {
+    private int distance;
+
+    public DistanceResponse() {
+    }
+
+    public DistanceResponse(int distance) {
+        this.distance = distance;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
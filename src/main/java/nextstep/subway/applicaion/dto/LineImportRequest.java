@@ -0,0 +1,27 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LineImportRequest {
+    private String name;
+    private String color;
+    private int extraFare;
+    private List<SectionImportRequest> sections = new ArrayList<>();
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public int getExtraFare() {
+        return extraFare;
+    }
+
+    public List<SectionImportRequest> getSections() {
+        return sections;
+    }
+}
@@ -6,6 +6,7 @@ public class LineRequest {
     private Long upStationId;
     private Long downStationId;
     private int distance;
+    private Integer extraFare;
 
     public String getName() {
         return name;
@@ -26,4 +27,8 @@ public class LineRequest {
     public int getDistance() {
         return distance;
     }
+
+    public Integer getExtraFare() {
+        return extraFare;
+    }
 }
@@ -1,7 +1,10 @@
 package nextstep.subway.applicaion.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class LineResponse {
     private Long id;
     private String name;
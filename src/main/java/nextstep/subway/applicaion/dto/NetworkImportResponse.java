@@ -0,0 +1,40 @@
+package nextstep.subway.applicaion.dto;
+
+public class NetworkImportResponse {
+    private int stationCount;
+    private int lineCount;
+    private int sectionCount;
+    private long elapsedMillis;
+    private long recordsPerSecond;
+
+    public NetworkImportResponse() {
+    }
+
+    public NetworkImportResponse(int stationCount, int lineCount, int sectionCount, long elapsedMillis) {
+        this.stationCount = stationCount;
+        this.lineCount = lineCount;
+        this.sectionCount = sectionCount;
+        this.elapsedMillis = elapsedMillis;
+        this.recordsPerSecond = (stationCount + lineCount + sectionCount) * 1000L / Math.max(elapsedMillis, 1L);
+    }
+
+    public int getStationCount() {
+        return stationCount;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public int getSectionCount() {
+        return sectionCount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getRecordsPerSecond() {
+        return recordsPerSecond;
+    }
+}
@@ -0,0 +1,19 @@
+package nextstep.subway.applicaion.dto;
+
+public class SectionImportRequest {
+    private String upStation;
+    private String downStation;
+    private int distance;
+
+    public String getUpStation() {
+        return upStation;
+    }
+
+    public String getDownStation() {
+        return downStation;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
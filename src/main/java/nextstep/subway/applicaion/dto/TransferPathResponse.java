@@ -0,0 +1,19 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class TransferPathResponse extends PathResponse {
+    private int transferCount;
+
+    public TransferPathResponse() {
+    }
+
+    public TransferPathResponse(List<StationResponse> stations, int distance, int fare, int transferCount) {
+        super(stations, distance, fare);
+        this.transferCount = transferCount;
+    }
+
+    public int getTransferCount() {
+        return transferCount;
+    }
+}
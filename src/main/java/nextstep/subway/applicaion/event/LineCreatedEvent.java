@@ -0,0 +1,13 @@
+package nextstep.subway.applicaion.event;
+
+public class LineCreatedEvent {
+    private final Long lineId;
+
+    public LineCreatedEvent(Long lineId) {
+        this.lineId = lineId;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+}
@@ -0,0 +1,13 @@
+package nextstep.subway.applicaion.event;
+
+public class LineDeletedEvent {
+    private final Long lineId;
+
+    public LineDeletedEvent(Long lineId) {
+        this.lineId = lineId;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+}
@@ -0,0 +1,19 @@
+package nextstep.subway.applicaion.event;
+
+import nextstep.subway.domain.Line;
+
+public class LineUpdatedEvent {
+    private final Line line;
+
+    public LineUpdatedEvent(Line line) {
+        this.line = line;
+    }
+
+    public Line getLine() {
+        return line;
+    }
+
+    public Long getLineId() {
+        return line.getId();
+    }
+}
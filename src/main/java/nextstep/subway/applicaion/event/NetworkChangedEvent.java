@@ -0,0 +1,4 @@
+package nextstep.subway.applicaion.event;
+
+public class NetworkChangedEvent {
+}
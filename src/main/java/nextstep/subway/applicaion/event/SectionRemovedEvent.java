@@ -0,0 +1,15 @@
+package nextstep.subway.applicaion.event;
+
+import nextstep.subway.domain.Section;
+
+public class SectionRemovedEvent {
+    private final Section section;
+
+    public SectionRemovedEvent(Section section) {
+        this.section = section;
+    }
+
+    public Section getSection() {
+        return section;
+    }
+}
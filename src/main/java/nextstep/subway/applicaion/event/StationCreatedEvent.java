@@ -0,0 +1,19 @@
+package nextstep.subway.applicaion.event;
+
+import nextstep.subway.domain.Station;
+
+public class StationCreatedEvent {
+    private final Station station;
+
+    public StationCreatedEvent(Station station) {
+        this.station = station;
+    }
+
+    public Station getStation() {
+        return station;
+    }
+
+    public Long getStationId() {
+        return station.getId();
+    }
+}
@@ -0,0 +1,13 @@
+package nextstep.subway.applicaion.event;
+
+public class StationDeletedEvent {
+    private final Long stationId;
+
+    public StationDeletedEvent(Long stationId) {
+        this.stationId = stationId;
+    }
+
+    public Long getStationId() {
+        return stationId;
+    }
+}
@@ -0,0 +1,22 @@
+package nextstep.subway.domain;
+
+import java.util.Collections;
+import java.util.List;
+
+public class AlternativePaths {
+    private final List<Path> paths;
+    private final boolean complete;
+
+    public AlternativePaths(List<Path> paths, boolean complete) {
+        this.paths = Collections.unmodifiableList(paths);
+        this.complete = complete;
+    }
+
+    public List<Path> getPaths() {
+        return paths;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+}
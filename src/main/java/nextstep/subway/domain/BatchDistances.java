@@ -0,0 +1,102 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+public class BatchDistances {
+    private static final BoundedPool<Workspace> WORKSPACES = new BoundedPool<>(Workspace::new);
+
+    private final CsrGraph graph;
+
+    public BatchDistances(CsrGraph graph) {
+        this.graph = graph;
+    }
+
+    public int[] findDistances(long[] sources, long[] targets, int count, ForkJoinPool pool) {
+        return findDistances(sources, targets, count, null, pool);
+    }
+
+    public int[] findDistances(long[] sources, long[] targets, int count, int[] extraFares, ForkJoinPool pool) {
+        Map<Long, List<Integer>> pairsBySource = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            pairsBySource.computeIfAbsent(sources[i], it -> new ArrayList<>()).add(i);
+        }
+
+        int[] distances = new int[count];
+        pool.submit(() -> pairsBySource.entrySet().parallelStream()
+                .forEach(it -> fillDistances(it.getKey(), it.getValue(), targets, distances, extraFares)))
+                .join();
+        return distances;
+    }
+
+    private void fillDistances(Long source, List<Integer> pairs, long[] targets, int[] distances, int[] extraFares) {
+        int from = graph.indexOf(source);
+        if (from < 0) {
+            pairs.forEach(it -> distances[it] = SearchState.UNREACHABLE);
+            return;
+        }
+
+        Workspace workspace = WORKSPACES.acquire();
+        try {
+            workspace.reserve(graph.nodeCount());
+            fillDistances(from, pairs, targets, distances, extraFares, workspace);
+        } finally {
+            WORKSPACES.release(workspace);
+        }
+    }
+
+    private void fillDistances(int from, List<Integer> pairs, long[] targets, int[] distances, int[] extraFares, Workspace workspace) {
+        SearchState state = workspace.state;
+        int[] row = workspace.row;
+        graph.fillDistances(from, state, row, 0);
+        int[] maxExtraFares = extraFares == null ? null : workspace.maxExtraFares;
+        if (maxExtraFares != null) {
+            Arrays.fill(maxExtraFares, 0, graph.nodeCount(), -1);
+            maxExtraFares[from] = 0;
+        }
+
+        for (int pair : pairs) {
+            int to = graph.indexOf(targets[pair]);
+            distances[pair] = to < 0 ? SearchState.UNREACHABLE : row[to];
+            if (maxExtraFares != null) {
+                extraFares[pair] = distances[pair] == SearchState.UNREACHABLE ? 0 : maxExtraFare(to, state, maxExtraFares, workspace.trail);
+            }
+        }
+    }
+
+    private int maxExtraFare(int to, SearchState state, int[] maxExtraFares, int[] trail) {
+        int length = 0;
+        for (int node = to; maxExtraFares[node] < 0; node = state.previous(node)) {
+            trail[length++] = node;
+        }
+        while (length > 0) {
+            int node = trail[--length];
+            int previous = state.previous(node);
+            maxExtraFares[node] = Math.max(maxExtraFares[previous], graph.extraFareBetween(previous, node));
+        }
+        return maxExtraFares[to];
+    }
+
+    public long getVersion() {
+        return graph.getVersion();
+    }
+
+    private static class Workspace {
+        private final SearchState state = new SearchState();
+        private int[] row = new int[0];
+        private int[] maxExtraFares = new int[0];
+        private int[] trail = new int[0];
+
+        private void reserve(int nodeCount) {
+            if (row.length < nodeCount) {
+                row = new int[nodeCount];
+                maxExtraFares = new int[nodeCount];
+                trail = new int[nodeCount];
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package nextstep.subway.domain;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class BoundedPool<T> {
+    private static final int DEFAULT_CAPACITY = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final Supplier<T> factory;
+    private final int capacity;
+
+    public BoundedPool(Supplier<T> factory) {
+        this(factory, DEFAULT_CAPACITY);
+    }
+
+    public BoundedPool(Supplier<T> factory, int capacity) {
+        this.factory = factory;
+        this.capacity = capacity;
+    }
+
+    public T acquire() {
+        T item = idle.poll();
+        if (item == null) {
+            return factory.get();
+        }
+        idleCount.decrementAndGet();
+        return item;
+    }
+
+    public void release(T item) {
+        if (idleCount.incrementAndGet() > capacity) {
+            idleCount.decrementAndGet();
+            return;
+        }
+        idle.offer(item);
+    }
+
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+}
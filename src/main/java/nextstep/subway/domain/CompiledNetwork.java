@@ -0,0 +1,32 @@
+package nextstep.subway.domain;
+
+public class CompiledNetwork {
+    private final SubwayNetwork network;
+    private volatile CsrGraph graph;
+
+    public CompiledNetwork(SubwayNetwork network) {
+        this.network = network;
+    }
+
+    public SubwayNetwork getNetwork() {
+        return network;
+    }
+
+    public CsrGraph getGraph() {
+        CsrGraph compiled = graph;
+        if (compiled == null) {
+            synchronized (this) {
+                compiled = graph;
+                if (compiled == null) {
+                    compiled = new CsrGraph(network);
+                    graph = compiled;
+                }
+            }
+        }
+        return compiled;
+    }
+
+    public long getVersion() {
+        return network.getVersion();
+    }
+}
@@ -0,0 +1,295 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class ContractionHierarchy implements PathFinder {
+    private static final int WITNESS_SETTLE_LIMIT = 64;
+    private static final int NO_MIDDLE = -1;
+    private static final long NO_LINE = -1L;
+    private static final BoundedPool<SearchState> SEARCH_STATES = new BoundedPool<>(SearchState::new);
+
+    private final long version;
+    private final long[] stationIds;
+    private final Station[] stations;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] distances;
+    private final int[] middles;
+    private final long[] lineIds;
+
+    public ContractionHierarchy(SubwayNetwork network) {
+        this.version = network.getVersion();
+        List<NetworkSection> sections = network.getSections();
+
+        this.stationIds = sections.stream()
+                .flatMap(it -> Stream.of(it.getUpStation(), it.getDownStation()))
+                .mapToLong(Station::getId)
+                .distinct()
+                .sorted()
+                .toArray();
+        this.stations = new Station[stationIds.length];
+
+        List<Map<Integer, Arc>> graph = new ArrayList<>(stationIds.length);
+        for (int i = 0; i < stationIds.length; i++) {
+            graph.add(new HashMap<>());
+        }
+        for (NetworkSection section : sections) {
+            int up = indexOf(section.getUpStation().getId());
+            int down = indexOf(section.getDownStation().getId());
+            stations[up] = section.getUpStation();
+            stations[down] = section.getDownStation();
+            connect(graph, new Arc(up, down, section.getDistance(), NO_MIDDLE, section.getLineId(),
+                    network.getExtraFare(section.getLineId())));
+        }
+
+        List<List<Arc>> upwardArcs = contract(graph);
+
+        this.offsets = new int[stationIds.length + 1];
+        for (int node = 0; node < stationIds.length; node++) {
+            offsets[node + 1] = offsets[node] + upwardArcs.get(node).size();
+        }
+        this.targets = new int[offsets[stationIds.length]];
+        this.distances = new int[targets.length];
+        this.middles = new int[targets.length];
+        this.lineIds = new long[targets.length];
+        for (int node = 0; node < stationIds.length; node++) {
+            int arc = offsets[node];
+            for (Arc upward : upwardArcs.get(node)) {
+                targets[arc] = upward.target;
+                distances[arc] = upward.distance;
+                middles[arc] = upward.middle;
+                lineIds[arc] = upward.lineId;
+                arc++;
+            }
+        }
+    }
+
+    private List<List<Arc>> contract(List<Map<Integer, Arc>> graph) {
+        int nodeCount = graph.size();
+        List<List<Arc>> upwardArcs = new ArrayList<>(nodeCount);
+        int[] contractedNeighbors = new int[nodeCount];
+        SearchState witness = new SearchState(nodeCount);
+
+        IntMinHeap queue = new IntMinHeap(nodeCount);
+        for (int node = 0; node < nodeCount; node++) {
+            upwardArcs.add(Collections.emptyList());
+            queue.offer(node, priority(graph, node, contractedNeighbors, witness));
+        }
+
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            int priority = priority(graph, node, contractedNeighbors, witness);
+            if (!queue.isEmpty() && priority > queue.peekKey()) {
+                queue.offer(node, priority);
+                continue;
+            }
+
+            for (Arc shortcut : shortcuts(graph, node, witness)) {
+                connect(graph, shortcut);
+            }
+            List<Arc> upward = new ArrayList<>(graph.get(node).values());
+            for (Arc arc : upward) {
+                graph.get(arc.target).remove(node);
+                contractedNeighbors[arc.target]++;
+            }
+            upwardArcs.set(node, upward);
+            graph.get(node).clear();
+        }
+        return upwardArcs;
+    }
+
+    private int priority(List<Map<Integer, Arc>> graph, int node, int[] contractedNeighbors, SearchState witness) {
+        return shortcuts(graph, node, witness).size() - graph.get(node).size() + contractedNeighbors[node];
+    }
+
+    private List<Arc> shortcuts(List<Map<Integer, Arc>> graph, int node, SearchState witness) {
+        List<Arc> neighbors = new ArrayList<>(graph.get(node).values());
+        List<Arc> shortcuts = new ArrayList<>();
+        for (int i = 0; i < neighbors.size(); i++) {
+            Arc in = neighbors.get(i);
+            int limit = 0;
+            for (int j = i + 1; j < neighbors.size(); j++) {
+                limit = Math.max(limit, in.distance + neighbors.get(j).distance);
+            }
+            if (limit == 0) {
+                continue;
+            }
+
+            searchWitness(graph, in.target, node, limit, witness);
+            for (int j = i + 1; j < neighbors.size(); j++) {
+                Arc out = neighbors.get(j);
+                int viaNode = in.distance + out.distance;
+                if (viaNode < witness.distance(out.target)) {
+                    shortcuts.add(new Arc(in.target, out.target, viaNode, node, NO_LINE, Math.max(in.extraFare, out.extraFare)));
+                }
+            }
+        }
+        return shortcuts;
+    }
+
+    private void searchWitness(List<Map<Integer, Arc>> graph, int source, int excluded, int limit, SearchState witness) {
+        witness.reset(graph.size());
+        witness.reach(source, 0, source);
+        int settledCount = 0;
+        while (witness.hasNext() && settledCount++ < WITNESS_SETTLE_LIMIT) {
+            int node = witness.settleNext();
+            int distance = witness.distance(node);
+            if (distance > limit) {
+                break;
+            }
+            for (Arc arc : graph.get(node).values()) {
+                if (arc.target != excluded && !witness.isSettled(arc.target) && distance + arc.distance < witness.distance(arc.target)) {
+                    witness.reach(arc.target, distance + arc.distance, node);
+                }
+            }
+        }
+    }
+
+    private void connect(List<Map<Integer, Arc>> graph, Arc arc) {
+        Arc existing = graph.get(arc.source).get(arc.target);
+        if (existing != null && (existing.distance < arc.distance
+                || existing.distance == arc.distance && existing.extraFare <= arc.extraFare)) {
+            return;
+        }
+        graph.get(arc.source).put(arc.target, arc);
+        graph.get(arc.target).put(arc.source, new Arc(arc.target, arc.source, arc.distance, arc.middle, arc.lineId, arc.extraFare));
+    }
+
+    @Override
+    public Path findPath(Long source, Long target) {
+        int from = indexOf(source);
+        int to = indexOf(target);
+        if (from < 0 || to < 0 || from == to) {
+            throw new IllegalArgumentException();
+        }
+
+        SearchState forward = SEARCH_STATES.acquire();
+        SearchState backward = SEARCH_STATES.acquire();
+        try {
+            return findPath(from, to, forward, backward);
+        } finally {
+            SEARCH_STATES.release(forward);
+            SEARCH_STATES.release(backward);
+        }
+    }
+
+    private Path findPath(int from, int to, SearchState forward, SearchState backward) {
+        forward.reset(stationIds.length);
+        backward.reset(stationIds.length);
+        forward.reach(from, 0, from);
+        backward.reach(to, 0, to);
+
+        int best = SearchState.UNREACHABLE;
+        int meeting = -1;
+        while (canImprove(forward, best) || canImprove(backward, best)) {
+            boolean forwardTurn = !canImprove(backward, best)
+                    || (canImprove(forward, best) && forward.peekDistance() <= backward.peekDistance());
+            SearchState current = forwardTurn ? forward : backward;
+            SearchState opposite = forwardTurn ? backward : forward;
+
+            int node = current.settleNext();
+            int distance = current.distance(node);
+            if (opposite.distance(node) != SearchState.UNREACHABLE && distance + opposite.distance(node) < best) {
+                best = distance + opposite.distance(node);
+                meeting = node;
+            }
+            for (int arc = offsets[node]; arc < offsets[node + 1]; arc++) {
+                int next = targets[arc];
+                if (!current.isSettled(next) && distance + distances[arc] < current.distance(next)) {
+                    current.reach(next, distance + distances[arc], node);
+                }
+            }
+        }
+
+        if (meeting < 0) {
+            throw new IllegalArgumentException();
+        }
+        List<Station> path = new ArrayList<>();
+        List<Long> pathLineIds = new ArrayList<>();
+        path.add(stations[from]);
+        List<Integer> hops = hopsOf(forward, backward, from, to, meeting);
+        for (int i = 1; i < hops.size(); i++) {
+            unpack(hops.get(i - 1), hops.get(i), path, pathLineIds);
+        }
+        return new Path(Collections.unmodifiableList(path), Collections.unmodifiableList(pathLineIds), best,
+                forward.getSettledCount() + backward.getSettledCount(),
+                forward.getHeapOperationCount() + backward.getHeapOperationCount());
+    }
+
+    private boolean canImprove(SearchState state, int best) {
+        return state.hasNext() && state.peekDistance() < best;
+    }
+
+    private List<Integer> hopsOf(SearchState forward, SearchState backward, int from, int to, int meeting) {
+        List<Integer> hops = new ArrayList<>();
+        for (int node = meeting; node != from; node = forward.previous(node)) {
+            hops.add(node);
+        }
+        hops.add(from);
+        Collections.reverse(hops);
+        for (int node = meeting; node != to; ) {
+            node = backward.previous(node);
+            hops.add(node);
+        }
+        return hops;
+    }
+
+    private void unpack(int source, int target, List<Station> path, List<Long> pathLineIds) {
+        int arc = arcOf(source, target);
+        if (middles[arc] == NO_MIDDLE) {
+            path.add(stations[target]);
+            pathLineIds.add(lineIds[arc]);
+            return;
+        }
+        unpack(source, middles[arc], path, pathLineIds);
+        unpack(middles[arc], target, path, pathLineIds);
+    }
+
+    private int arcOf(int source, int target) {
+        for (int arc = offsets[source]; arc < offsets[source + 1]; arc++) {
+            if (targets[arc] == target) {
+                return arc;
+            }
+        }
+        for (int arc = offsets[target]; arc < offsets[target + 1]; arc++) {
+            if (targets[arc] == source) {
+                return arc;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private int indexOf(Long stationId) {
+        int index = Arrays.binarySearch(stationIds, stationId);
+        return index < 0 ? -1 : index;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    private static class Arc {
+        private final int source;
+        private final int target;
+        private final int distance;
+        private final int middle;
+        private final long lineId;
+        private final int extraFare;
+
+        private Arc(int source, int target, int distance, int middle, long lineId, int extraFare) {
+            this.source = source;
+            this.target = target;
+            this.distance = distance;
+            this.middle = middle;
+            this.lineId = lineId;
+            this.extraFare = extraFare;
+        }
+    }
+}
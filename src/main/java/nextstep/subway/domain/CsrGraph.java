@@ -0,0 +1,220 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class CsrGraph implements PathFinder {
+    private final long version;
+    private final long[] stationIds;
+    private final Station[] stations;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] distances;
+    private final int[] lines;
+    private final long[] lineIds;
+    private final int[] lineExtraFares;
+
+    public CsrGraph(SubwayNetwork network) {
+        this.version = network.getVersion();
+        List<NetworkSection> sections = network.getSections();
+
+        this.stationIds = sections.stream()
+                .flatMap(it -> Stream.of(it.getUpStation(), it.getDownStation()))
+                .mapToLong(Station::getId)
+                .distinct()
+                .sorted()
+                .toArray();
+        this.lineIds = sections.stream()
+                .mapToLong(NetworkSection::getLineId)
+                .distinct()
+                .sorted()
+                .toArray();
+        this.lineExtraFares = Arrays.stream(lineIds).mapToInt(network::getExtraFare).toArray();
+        this.stations = new Station[stationIds.length];
+        this.offsets = new int[stationIds.length + 1];
+        this.targets = new int[sections.size() * 2];
+        this.distances = new int[sections.size() * 2];
+        this.lines = new int[sections.size() * 2];
+
+        for (NetworkSection section : sections) {
+            offsets[indexOf(section.getUpStation().getId()) + 1]++;
+            offsets[indexOf(section.getDownStation().getId()) + 1]++;
+        }
+        for (int i = 0; i < stationIds.length; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] cursors = Arrays.copyOf(offsets, stationIds.length);
+        for (NetworkSection section : sections) {
+            int up = indexOf(section.getUpStation().getId());
+            int down = indexOf(section.getDownStation().getId());
+            stations[up] = section.getUpStation();
+            stations[down] = section.getDownStation();
+            int line = Arrays.binarySearch(lineIds, section.getLineId());
+            addArc(cursors, up, down, section.getDistance(), line);
+            addArc(cursors, down, up, section.getDistance(), line);
+        }
+    }
+
+    private void addArc(int[] cursors, int from, int to, int distance, int line) {
+        int arc = cursors[from]++;
+        targets[arc] = to;
+        distances[arc] = distance;
+        lines[arc] = line;
+    }
+
+    @Override
+    public Path findPath(Long source, Long target) {
+        return findPath(source, target, new SearchState(stationIds.length));
+    }
+
+    public Path findPath(Long source, Long target, SearchState state) {
+        int from = indexOf(source);
+        int to = indexOf(target);
+        if (from < 0 || to < 0 || from == to) {
+            throw new IllegalArgumentException();
+        }
+
+        state.reset(stationIds.length);
+        state.reach(from, 0, from);
+        while (state.hasNext()) {
+            int node = state.settleNext();
+            if (node == to) {
+                break;
+            }
+            int distance = state.distance(node);
+            for (int arc = offsets[node]; arc < offsets[node + 1]; arc++) {
+                int next = targets[arc];
+                if (!state.isSettled(next) && distance + distances[arc] < state.distance(next)) {
+                    state.reach(next, distance + distances[arc], node);
+                }
+            }
+        }
+
+        if (state.distance(to) == SearchState.UNREACHABLE) {
+            throw new IllegalArgumentException();
+        }
+        List<Station> path = new ArrayList<>();
+        List<Long> pathLineIds = new ArrayList<>();
+        for (int node = to; node != from; node = state.previous(node)) {
+            int previous = state.previous(node);
+            path.add(stations[node]);
+            pathLineIds.add(lineIds[lines[arcBetween(previous, node, state.distance(node) - state.distance(previous))]]);
+        }
+        path.add(stations[from]);
+        Collections.reverse(path);
+        Collections.reverse(pathLineIds);
+        return new Path(Collections.unmodifiableList(path), Collections.unmodifiableList(pathLineIds), state.distance(to),
+                state.getSettledCount(), state.getHeapOperationCount());
+    }
+
+    void fillDistances(int from, SearchState state, int[] row, int offset) {
+        state.reset(stationIds.length);
+        state.reach(from, 0, from);
+        while (state.hasNext()) {
+            int node = state.settleNext();
+            int distance = state.distance(node);
+            for (int arc = offsets[node]; arc < offsets[node + 1]; arc++) {
+                int next = targets[arc];
+                if (!state.isSettled(next) && distance + distances[arc] < state.distance(next)) {
+                    state.reach(next, distance + distances[arc], node);
+                }
+            }
+        }
+        for (int node = 0; node < stationIds.length; node++) {
+            row[offset + node] = state.distance(node);
+        }
+    }
+
+    public long[] getStationIds() {
+        return stationIds.clone();
+    }
+
+    int nodeCount() {
+        return stationIds.length;
+    }
+
+    int arcBegin(int node) {
+        return offsets[node];
+    }
+
+    int arcEnd(int node) {
+        return offsets[node + 1];
+    }
+
+    int arcTarget(int arc) {
+        return targets[arc];
+    }
+
+    int arcDistance(int arc) {
+        return distances[arc];
+    }
+
+    int extraFareBetween(int from, int to) {
+        int distance = Integer.MAX_VALUE;
+        for (int arc = offsets[from]; arc < offsets[from + 1]; arc++) {
+            if (targets[arc] == to) {
+                distance = Math.min(distance, distances[arc]);
+            }
+        }
+        int arc = arcBetween(from, to, distance);
+        return arc < 0 ? 0 : lineExtraFares[lines[arc]];
+    }
+
+    int arcBetween(int from, int to, int distance) {
+        int found = -1;
+        for (int arc = offsets[from]; arc < offsets[from + 1]; arc++) {
+            if (targets[arc] == to && distances[arc] == distance
+                    && (found < 0 || lineExtraFares[lines[arc]] < lineExtraFares[lines[found]])) {
+                found = arc;
+            }
+        }
+        return found;
+    }
+
+    long lineIdOf(int arc) {
+        return lineIds[lines[arc]];
+    }
+
+    int arcLine(int arc) {
+        return lines[arc];
+    }
+
+    long lineIdAt(int line) {
+        return lineIds[line];
+    }
+
+    int lineCount() {
+        return lineIds.length;
+    }
+
+    public int getExtraFare(Long lineId) {
+        int line = Arrays.binarySearch(lineIds, lineId);
+        return line < 0 ? 0 : lineExtraFares[line];
+    }
+
+    Station stationAt(int node) {
+        return stations[node];
+    }
+
+    int indexOf(Long stationId) {
+        int index = Arrays.binarySearch(stationIds, stationId);
+        return index < 0 ? -1 : index;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    public int getStationCount() {
+        return stationIds.length;
+    }
+
+    public int getArcCount() {
+        return targets.length;
+    }
+}
@@ -0,0 +1,90 @@
+package nextstep.subway.domain;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class DistanceMatrix {
+    private static final BoundedPool<SearchState> SEARCH_STATES = new BoundedPool<>(SearchState::new);
+
+    private final long version;
+    private final byte[] digest;
+    private final long[] stationIds;
+    private final IntBuffer distances;
+
+    public DistanceMatrix(long version, byte[] digest, long[] stationIds, IntBuffer distances) {
+        if (distances.capacity() != stationIds.length * stationIds.length) {
+            throw new IllegalArgumentException();
+        }
+        this.version = version;
+        this.digest = digest;
+        this.stationIds = stationIds;
+        this.distances = distances;
+    }
+
+    public static DistanceMatrix compute(SubwayNetwork network, ForkJoinPool pool) {
+        return compute(new CompiledNetwork(network), pool);
+    }
+
+    public static DistanceMatrix compute(CompiledNetwork compiled, ForkJoinPool pool) {
+        CsrGraph graph = compiled.getGraph();
+        long[] stationIds = graph.getStationIds();
+        int stationCount = stationIds.length;
+        int[] distances = new int[stationCount * stationCount];
+
+        pool.submit(() -> IntStream.range(0, stationCount).parallel()
+                .forEach(source -> {
+                    SearchState state = SEARCH_STATES.acquire();
+                    try {
+                        graph.fillDistances(source, state, distances, source * stationCount);
+                    } finally {
+                        SEARCH_STATES.release(state);
+                    }
+                }))
+                .join();
+        return new DistanceMatrix(compiled.getVersion(), compiled.getNetwork().getDigest(), stationIds, IntBuffer.wrap(distances));
+    }
+
+    public DistanceMatrix withVersion(long version) {
+        return new DistanceMatrix(version, digest, stationIds, distances);
+    }
+
+    public boolean hasDigest(byte[] digest) {
+        return Arrays.equals(this.digest, digest);
+    }
+
+    public int findDistance(Long source, Long target) {
+        int from = Arrays.binarySearch(stationIds, source);
+        int to = Arrays.binarySearch(stationIds, target);
+        if (from < 0 || to < 0 || from == to) {
+            throw new IllegalArgumentException();
+        }
+
+        int distance = distances.get(from * stationIds.length + to);
+        if (distance == SearchState.UNREACHABLE) {
+            throw new IllegalArgumentException();
+        }
+        return distance;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public byte[] getDigest() {
+        return digest.clone();
+    }
+
+    public long[] getStationIds() {
+        return stationIds.clone();
+    }
+
+    public IntBuffer getDistances() {
+        return distances.duplicate();
+    }
+
+    public int getStationCount() {
+        return stationIds.length;
+    }
+}
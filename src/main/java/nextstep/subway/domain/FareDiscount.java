@@ -0,0 +1,43 @@
+package nextstep.subway.domain;
+
+public enum FareDiscount {
+    INFANT(0, 100),
+    CHILD(350, 50),
+    TEENAGER(350, 20),
+    NONE(0, 0);
+
+    private static final int CHILD_MIN_AGE = 6;
+    private static final int TEENAGER_MIN_AGE = 13;
+    private static final int ADULT_MIN_AGE = 19;
+
+    private final int deduction;
+    private final int percent;
+
+    FareDiscount(int deduction, int percent) {
+        this.deduction = deduction;
+        this.percent = percent;
+    }
+
+    public static FareDiscount of(Integer age) {
+        if (age == null) {
+            return NONE;
+        }
+        if (age < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (age < CHILD_MIN_AGE) {
+            return INFANT;
+        }
+        if (age < TEENAGER_MIN_AGE) {
+            return CHILD;
+        }
+        if (age < ADULT_MIN_AGE) {
+            return TEENAGER;
+        }
+        return NONE;
+    }
+
+    public int apply(int fare) {
+        return fare - (fare - deduction) * percent / 100;
+    }
+}
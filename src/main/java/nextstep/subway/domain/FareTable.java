@@ -0,0 +1,59 @@
+package nextstep.subway.domain;
+
+public class FareTable {
+    public static final int BASE_FARE = 1250;
+
+    private static final int BASE_DISTANCE = 10;
+    private static final int MIDDLE_DISTANCE = 50;
+    private static final int MIDDLE_UNIT = 5;
+    private static final int LONG_UNIT = 8;
+    private static final int UNIT_FARE = 100;
+    private static final int MAX_TABLE_DISTANCE = 1 << 16;
+
+    private final CsrGraph graph;
+    private final int[] distanceFares;
+
+    public FareTable(CsrGraph graph) {
+        this.graph = graph;
+
+        long totalDistance = 0;
+        for (int arc = 0; arc < graph.getArcCount(); arc++) {
+            totalDistance += graph.arcDistance(arc);
+        }
+        this.distanceFares = new int[(int) Math.min(totalDistance / 2, MAX_TABLE_DISTANCE) + 1];
+        for (int distance = 0; distance < distanceFares.length; distance++) {
+            distanceFares[distance] = calculateDistanceFare(distance);
+        }
+    }
+
+    static int calculateDistanceFare(int distance) {
+        if (distance <= BASE_DISTANCE) {
+            return BASE_FARE;
+        }
+        if (distance <= MIDDLE_DISTANCE) {
+            return BASE_FARE + units(distance - BASE_DISTANCE, MIDDLE_UNIT) * UNIT_FARE;
+        }
+        return calculateDistanceFare(MIDDLE_DISTANCE) + units(distance - MIDDLE_DISTANCE, LONG_UNIT) * UNIT_FARE;
+    }
+
+    private static int units(int distance, int unit) {
+        return (distance + unit - 1) / unit;
+    }
+
+    public int findFare(Path path, FareDiscount discount) {
+        int extraFare = 0;
+        for (Long lineId : path.getLineIds()) {
+            extraFare = Math.max(extraFare, graph.getExtraFare(lineId));
+        }
+        return findFare(path.getDistance(), extraFare, discount);
+    }
+
+    public int findFare(int distance, int extraFare, FareDiscount discount) {
+        int distanceFare = distance < distanceFares.length ? distanceFares[distance] : calculateDistanceFare(distance);
+        return discount.apply(distanceFare + extraFare);
+    }
+
+    public long getVersion() {
+        return graph.getVersion();
+    }
+}
@@ -0,0 +1,92 @@
+package nextstep.subway.domain;
+
+import java.util.Arrays;
+
+public class IntMinHeap {
+    private final int[] nodes;
+    private final int[] keys;
+    private final int[] positions;
+    private int size;
+
+    public IntMinHeap(int capacity) {
+        this.nodes = new int[capacity];
+        this.keys = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[nodes[i]] = -1;
+        }
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int peekKey() {
+        return keys[nodes[0]];
+    }
+
+    public void offer(int node, int key) {
+        int position = positions[node];
+        if (position < 0) {
+            position = size++;
+            nodes[position] = node;
+            positions[node] = position;
+        } else if (keys[node] <= key) {
+            return;
+        }
+        keys[node] = key;
+        siftUp(position);
+    }
+
+    public int poll() {
+        int node = nodes[0];
+        positions[node] = -1;
+        size--;
+        if (size > 0) {
+            nodes[0] = nodes[size];
+            positions[nodes[0]] = 0;
+            siftDown(0);
+        }
+        return node;
+    }
+
+    private void siftUp(int position) {
+        int node = nodes[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (keys[nodes[parent]] <= keys[node]) {
+                break;
+            }
+            move(nodes[parent], position);
+            position = parent;
+        }
+        move(node, position);
+    }
+
+    private void siftDown(int position) {
+        int node = nodes[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && keys[nodes[child + 1]] < keys[nodes[child]]) {
+                child++;
+            }
+            if (keys[node] <= keys[nodes[child]]) {
+                break;
+            }
+            move(nodes[child], position);
+            position = child;
+        }
+        move(node, position);
+    }
+
+    private void move(int node, int position) {
+        nodes[position] = node;
+        positions[node] = position;
+    }
+}
@@ -0,0 +1,64 @@
+package nextstep.subway.domain;
+
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.WeightedMultigraph;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class JgraphtPathFinder implements PathFinder {
+    private final long version;
+    private final Map<Long, Station> stations = new HashMap<>();
+    private final Map<DefaultWeightedEdge, Long> lineIds = new HashMap<>();
+    private final WeightedMultigraph<Long, DefaultWeightedEdge> graph = new WeightedMultigraph<>(DefaultWeightedEdge.class);
+
+    public JgraphtPathFinder(SubwayNetwork network) {
+        this.version = network.getVersion();
+        network.getSections().forEach(this::addSection);
+    }
+
+    private void addSection(NetworkSection section) {
+        Long upStationId = addStation(section.getUpStation());
+        Long downStationId = addStation(section.getDownStation());
+        DefaultWeightedEdge edge = graph.addEdge(upStationId, downStationId);
+        graph.setEdgeWeight(edge, section.getDistance());
+        lineIds.put(edge, section.getLineId());
+    }
+
+    private Long addStation(Station station) {
+        if (stations.putIfAbsent(station.getId(), station) == null) {
+            graph.addVertex(station.getId());
+        }
+        return station.getId();
+    }
+
+    @Override
+    public Path findPath(Long source, Long target) {
+        if (source.equals(target) || !stations.containsKey(source) || !stations.containsKey(target)) {
+            throw new IllegalArgumentException();
+        }
+
+        GraphPath<Long, DefaultWeightedEdge> path = new DijkstraShortestPath<>(graph).getPath(source, target);
+        if (path == null) {
+            throw new IllegalArgumentException();
+        }
+
+        List<Station> pathStations = path.getVertexList().stream()
+                .map(stations::get)
+                .collect(Collectors.toList());
+        List<Long> pathLineIds = path.getEdgeList().stream()
+                .map(lineIds::get)
+                .collect(Collectors.toList());
+        return new Path(Collections.unmodifiableList(pathStations), Collections.unmodifiableList(pathLineIds), (int) path.getWeight());
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+}
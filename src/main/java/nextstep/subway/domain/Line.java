@@ -1,26 +1,40 @@
 package nextstep.subway.domain;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
-import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "line")
 public class Line {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "line_seq")
+    @SequenceGenerator(name = "line_seq", sequenceName = "line_seq", allocationSize = 50)
     private Long id;
     private String name;
     private String color;
+    private int extraFare;
+
+    @Version
+    private Long version;
 
-    @OneToMany(mappedBy = "line", cascade = {CascadeType.PERSIST, CascadeType.MERGE}, orphanRemoval = true)
-    private List<Section> sections = new ArrayList<>();
+    @Embedded
+    private Sections sections = new Sections();
 
     public Line() {
     }
 
     public Line(String name, String color) {
+        this(name, color, 0);
+    }
+
+    public Line(String name, String color, int extraFare) {
         this.name = name;
         this.color = color;
+        setExtraFare(extraFare);
     }
 
     public Long getId() {
@@ -47,7 +61,36 @@ public class Line {
         this.color = color;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public int getExtraFare() {
+        return extraFare;
+    }
+
+    public void setExtraFare(int extraFare) {
+        if (extraFare < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.extraFare = extraFare;
+    }
+
+    public Section addSection(Station upStation, Station downStation, int distance) {
+        Section section = new Section(this, upStation, downStation, distance);
+        sections.add(section);
+        return section;
+    }
+
+    public Section removeSection(Station station) {
+        return sections.remove(station);
+    }
+
+    public List<Station> getStations() {
+        return sections.getStations();
+    }
+
     public List<Section> getSections() {
-        return sections;
+        return sections.getSections();
     }
 }
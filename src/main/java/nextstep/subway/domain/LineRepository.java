@@ -1,10 +1,49 @@
 package nextstep.subway.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface LineRepository extends JpaRepository<Line, Long> {
     @Override
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "order by l.id")
+    @QueryHints({
+            @QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true")
+    })
     List<Line> findAll();
-}
\ No newline at end of file
+
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "where l.id in :ids " +
+            "order by l.id")
+    @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+    List<Line> findAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select l from Line l where l.id = :id")
+    Optional<Line> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("select l.id as id, l.name as name, l.color as color from Line l where l.id > :after order by l.id")
+    List<LineSummary> findSummariesAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("select l from Line l order by l.id")
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "100"))
+    Stream<Line> streamAll();
+}
@@ -0,0 +1,9 @@
+package nextstep.subway.domain;
+
+public interface LineSummary {
+    Long getId();
+
+    String getName();
+
+    String getColor();
+}
@@ -0,0 +1,29 @@
+package nextstep.subway.domain;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Entity
+public class NetworkRevision {
+    private static final Long ID = 1L;
+
+    @Id
+    private Long id;
+    private long revision;
+
+    public NetworkRevision() {
+    }
+
+    public NetworkRevision(long revision) {
+        this.id = ID;
+        this.revision = revision;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+}
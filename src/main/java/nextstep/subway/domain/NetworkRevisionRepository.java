@@ -0,0 +1,16 @@
+package nextstep.subway.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface NetworkRevisionRepository extends JpaRepository<NetworkRevision, Long> {
+    @Modifying
+    @Query("update NetworkRevision r set r.revision = r.revision + 1")
+    int increment();
+
+    @Query("select r.revision from NetworkRevision r")
+    Optional<Long> findRevision();
+}
@@ -0,0 +1,45 @@
+package nextstep.subway.domain;
+
+public class NetworkSection {
+    private final Long id;
+    private final Long lineId;
+    private final Station upStation;
+    private final Station downStation;
+    private final int distance;
+
+    public NetworkSection(Section section) {
+        this(section.getId(), section.getLine().getId(), section.getUpStation(), section.getDownStation(), section.getDistance());
+    }
+
+    public NetworkSection(Long id, Long lineId, Station upStation, Station downStation, int distance) {
+        this.id = id;
+        this.lineId = lineId;
+        this.upStation = upStation;
+        this.downStation = downStation;
+        this.distance = distance;
+    }
+
+    public boolean hasStation(Long stationId) {
+        return upStation.getId().equals(stationId) || downStation.getId().equals(stationId);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public Station getUpStation() {
+        return upStation;
+    }
+
+    public Station getDownStation() {
+        return downStation;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,43 @@
+package nextstep.subway.domain;
+
+import java.util.List;
+
+public class Path {
+    private final List<Station> stations;
+    private final List<Long> lineIds;
+    private final int distance;
+    private final int settledCount;
+    private final int heapOperationCount;
+
+    public Path(List<Station> stations, List<Long> lineIds, int distance) {
+        this(stations, lineIds, distance, 0, 0);
+    }
+
+    public Path(List<Station> stations, List<Long> lineIds, int distance, int settledCount, int heapOperationCount) {
+        this.stations = stations;
+        this.lineIds = lineIds;
+        this.distance = distance;
+        this.settledCount = settledCount;
+        this.heapOperationCount = heapOperationCount;
+    }
+
+    public List<Station> getStations() {
+        return stations;
+    }
+
+    public List<Long> getLineIds() {
+        return lineIds;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getSettledCount() {
+        return settledCount;
+    }
+
+    public int getHeapOperationCount() {
+        return heapOperationCount;
+    }
+}
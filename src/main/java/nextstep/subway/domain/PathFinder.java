@@ -0,0 +1,7 @@
+package nextstep.subway.domain;
+
+public interface PathFinder {
+    Path findPath(Long source, Long target);
+
+    long getVersion();
+}
@@ -0,0 +1,30 @@
+package nextstep.subway.domain;
+
+import java.util.function.Function;
+
+public enum PathStrategy {
+    JGRAPHT(compiled -> new JgraphtPathFinder(compiled.getNetwork()), false),
+    CSR(CompiledNetwork::getGraph, false),
+    CSR_REUSABLE(compiled -> new ReusableStatePathFinder(compiled.getGraph()), false),
+    CH(compiled -> new ContractionHierarchy(compiled.getNetwork()), true);
+
+    private final Function<CompiledNetwork, PathFinder> factory;
+    private final boolean rebuiltInBackground;
+
+    PathStrategy(Function<CompiledNetwork, PathFinder> factory, boolean rebuiltInBackground) {
+        this.factory = factory;
+        this.rebuiltInBackground = rebuiltInBackground;
+    }
+
+    public PathFinder create(SubwayNetwork network) {
+        return create(new CompiledNetwork(network));
+    }
+
+    public PathFinder create(CompiledNetwork compiled) {
+        return factory.apply(compiled);
+    }
+
+    public boolean isRebuiltInBackground() {
+        return rebuiltInBackground;
+    }
+}
@@ -0,0 +1,26 @@
+package nextstep.subway.domain;
+
+public class ReusableStatePathFinder implements PathFinder {
+    private static final BoundedPool<SearchState> SEARCH_STATES = new BoundedPool<>(SearchState::new);
+
+    private final CsrGraph graph;
+
+    public ReusableStatePathFinder(CsrGraph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public Path findPath(Long source, Long target) {
+        SearchState state = SEARCH_STATES.acquire();
+        try {
+            return graph.findPath(source, target, state);
+        } finally {
+            SEARCH_STATES.release(state);
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return graph.getVersion();
+    }
+}
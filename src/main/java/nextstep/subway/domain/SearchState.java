@@ -0,0 +1,91 @@
+package nextstep.subway.domain;
+
+import java.util.Arrays;
+
+public class SearchState {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private int[] distances;
+    private int[] previous;
+    private int[] reached;
+    private int[] settled;
+    private IntMinHeap heap;
+    private int generation;
+    private int settledCount;
+    private int heapOperationCount;
+
+    public SearchState() {
+        this(0);
+    }
+
+    public SearchState(int capacity) {
+        allocate(capacity);
+    }
+
+    public void reset(int stationCount) {
+        if (distances.length < stationCount) {
+            allocate(Math.max(stationCount, distances.length * 2));
+        }
+        heap.clear();
+        settledCount = 0;
+        heapOperationCount = 0;
+        if (++generation == 0) {
+            Arrays.fill(reached, 0);
+            Arrays.fill(settled, 0);
+            generation = 1;
+        }
+    }
+
+    private void allocate(int capacity) {
+        distances = new int[capacity];
+        previous = new int[capacity];
+        reached = new int[capacity];
+        settled = new int[capacity];
+        heap = new IntMinHeap(capacity);
+        generation = 0;
+    }
+
+    public void reach(int node, int distance, int previousNode) {
+        distances[node] = distance;
+        previous[node] = previousNode;
+        reached[node] = generation;
+        heap.offer(node, distance);
+        heapOperationCount++;
+    }
+
+    public boolean hasNext() {
+        return !heap.isEmpty();
+    }
+
+    public int peekDistance() {
+        return heap.peekKey();
+    }
+
+    public int settleNext() {
+        int node = heap.poll();
+        settled[node] = generation;
+        settledCount++;
+        heapOperationCount++;
+        return node;
+    }
+
+    public boolean isSettled(int node) {
+        return settled[node] == generation;
+    }
+
+    public int distance(int node) {
+        return reached[node] == generation ? distances[node] : UNREACHABLE;
+    }
+
+    public int previous(int node) {
+        return previous[node];
+    }
+
+    public int getSettledCount() {
+        return settledCount;
+    }
+
+    public int getHeapOperationCount() {
+        return heapOperationCount;
+    }
+}
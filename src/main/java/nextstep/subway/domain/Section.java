@@ -1,11 +1,17 @@
 package nextstep.subway.domain;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "section")
 public class Section {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "section_seq")
+    @SequenceGenerator(name = "section_seq", sequenceName = "section_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(cascade = CascadeType.PERSIST)
@@ -33,6 +39,27 @@ public class Section {
         this.distance = distance;
     }
 
+    public void moveUpStation(Station station, int distance) {
+        if (distance >= this.distance) {
+            throw new IllegalArgumentException();
+        }
+        this.upStation = station;
+        this.distance -= distance;
+    }
+
+    public void moveDownStation(Station station, int distance) {
+        if (distance >= this.distance) {
+            throw new IllegalArgumentException();
+        }
+        this.downStation = station;
+        this.distance -= distance;
+    }
+
+    public void merge(Section next) {
+        this.downStation = next.downStation;
+        this.distance += next.distance;
+    }
+
     public Long getId() {
         return id;
     }
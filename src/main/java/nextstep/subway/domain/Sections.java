@@ -0,0 +1,154 @@
+package nextstep.subway.domain;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OptimisticLock;
+
+import javax.persistence.CascadeType;
+import javax.persistence.Embeddable;
+import javax.persistence.OneToMany;
+import javax.persistence.Transient;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Embeddable
+public class Sections {
+    // section edits force the Line version up themselves; a versioned collection would let the cache
+    // compare against the Line version of the first overlapping edit and accept stale loads
+    @OptimisticLock(excluded = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "line-sections")
+    @OneToMany(mappedBy = "line", cascade = {CascadeType.PERSIST, CascadeType.MERGE}, orphanRemoval = true)
+    private Set<Section> sections = new HashSet<>();
+
+    @Transient
+    private Map<Station, Section> upStationIndex;
+    @Transient
+    private Map<Station, Section> downStationIndex;
+
+    public void add(Section section) {
+        if (sections.isEmpty()) {
+            append(section);
+            return;
+        }
+
+        Station upStation = section.getUpStation();
+        Station downStation = section.getDownStation();
+        if (contains(upStation) == contains(downStation)) {
+            throw new IllegalArgumentException();
+        }
+
+        Section sameUpStation = upStationIndex().get(upStation);
+        Section sameDownStation = downStationIndex().get(downStation);
+        if (sameUpStation != null) {
+            sameUpStation.moveUpStation(downStation, section.getDistance());
+            upStationIndex().remove(upStation);
+            index(sameUpStation);
+        } else if (sameDownStation != null) {
+            sameDownStation.moveDownStation(upStation, section.getDistance());
+            downStationIndex().remove(downStation);
+            index(sameDownStation);
+        }
+        append(section);
+    }
+
+    public Section remove(Station station) {
+        if (sections.size() <= 1 || !contains(station)) {
+            throw new IllegalArgumentException();
+        }
+
+        Section next = upStationIndex().get(station);
+        Section previous = downStationIndex().get(station);
+        if (previous != null && next != null) {
+            unindex(previous);
+            previous.merge(next);
+            index(previous);
+            return delete(next);
+        }
+        return delete(next != null ? next : previous);
+    }
+
+    public List<Station> getStations() {
+        List<Section> ordered = getSections();
+        if (ordered.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Station> stations = new ArrayList<>(ordered.size() + 1);
+        stations.add(ordered.get(0).getUpStation());
+        for (Section section : ordered) {
+            stations.add(section.getDownStation());
+        }
+        return stations;
+    }
+
+    public List<Section> getSections() {
+        List<Section> ordered = new ArrayList<>(sections.size());
+        Section section = firstSection();
+        while (section != null) {
+            ordered.add(section);
+            section = upStationIndex().get(section.getDownStation());
+        }
+        return ordered;
+    }
+
+    public boolean isEmpty() {
+        return sections.isEmpty();
+    }
+
+    private Section firstSection() {
+        return sections.stream()
+                .filter(it -> !downStationIndex().containsKey(it.getUpStation()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private boolean contains(Station station) {
+        return upStationIndex().containsKey(station) || downStationIndex().containsKey(station);
+    }
+
+    private void append(Section section) {
+        sections.add(section);
+        index(section);
+    }
+
+    private Section delete(Section section) {
+        unindex(section);
+        sections.remove(section);
+        return section;
+    }
+
+    private void index(Section section) {
+        upStationIndex().put(section.getUpStation(), section);
+        downStationIndex().put(section.getDownStation(), section);
+    }
+
+    private void unindex(Section section) {
+        upStationIndex().remove(section.getUpStation());
+        downStationIndex().remove(section.getDownStation());
+    }
+
+    private Map<Station, Section> upStationIndex() {
+        if (upStationIndex == null) {
+            buildIndex();
+        }
+        return upStationIndex;
+    }
+
+    private Map<Station, Section> downStationIndex() {
+        if (downStationIndex == null) {
+            buildIndex();
+        }
+        return downStationIndex;
+    }
+
+    private void buildIndex() {
+        upStationIndex = new HashMap<>();
+        downStationIndex = new HashMap<>();
+        sections.forEach(this::index);
+    }
+}
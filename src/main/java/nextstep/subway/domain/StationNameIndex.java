@@ -0,0 +1,172 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class StationNameIndex {
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+    private static final Comparator<Entry> ORDER = Comparator.comparing((Entry it) -> it.key).thenComparing(it -> it.station.getId());
+
+    private final Entry[] entries;
+
+    private StationNameIndex(Entry[] entries) {
+        this.entries = entries;
+    }
+
+    public static StationNameIndex of(List<Station> stations) {
+        List<Entry> entries = new ArrayList<>();
+        stations.forEach(it -> addEntries(entries, it));
+        return new StationNameIndex(sorted(entries));
+    }
+
+    public StationNameIndex with(Station station) {
+        List<Entry> added = new ArrayList<>();
+        addEntries(added, station);
+        Entry[] next = without(station.getId()).entries;
+        for (Entry entry : added) {
+            next = insert(next, entry);
+        }
+        return new StationNameIndex(next);
+    }
+
+    public StationNameIndex without(Long stationId) {
+        Entry[] next = Arrays.stream(entries)
+                .filter(it -> !it.station.getId().equals(stationId))
+                .toArray(Entry[]::new);
+        return new StationNameIndex(next);
+    }
+
+    public List<Station> search(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String searchKey = hasChoseong(key) ? toChoseong(key) : key;
+        Map<Long, Station> matches = new LinkedHashMap<>();
+        for (int i = lowerBound(searchKey); i < entries.length && matches.size() < limit; i++) {
+            if (!entries[i].key.startsWith(searchKey)) {
+                break;
+            }
+            if (matchesBySyllable(entries[i].name, key)) {
+                matches.putIfAbsent(entries[i].station.getId(), entries[i].station);
+            }
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    static String toChoseong(String name) {
+        char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = toChoseong(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static char toChoseong(char c) {
+        if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+            return CHOSEONG[(c - HANGUL_BEGIN) / SYLLABLES_PER_CHOSEONG];
+        }
+        return c;
+    }
+
+    private static boolean hasChoseong(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            if (isChoseong(key.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isChoseong(char c) {
+        return Arrays.binarySearch(CHOSEONG, c) >= 0;
+    }
+
+    private static boolean matchesBySyllable(String name, String key) {
+        if (name.length() < key.length()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char expected = key.charAt(i);
+            char actual = name.charAt(i);
+            if (actual != expected && !(isChoseong(expected) && toChoseong(actual) == expected)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].key.compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void addEntries(List<Entry> entries, Station source) {
+        Station station = new Station(source.getId(), source.getName());
+        String name = normalize(station.getName());
+        entries.add(new Entry(name, name, station));
+        String choseong = toChoseong(name);
+        if (!choseong.equals(name)) {
+            entries.add(new Entry(choseong, name, station));
+        }
+    }
+
+    private static Entry[] sorted(List<Entry> entries) {
+        Entry[] result = entries.toArray(new Entry[0]);
+        Arrays.sort(result, ORDER);
+        return result;
+    }
+
+    private static Entry[] insert(Entry[] entries, Entry entry) {
+        int index = Arrays.binarySearch(entries, entry, ORDER);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        Entry[] result = new Entry[entries.length + 1];
+        System.arraycopy(entries, 0, result, 0, index);
+        result[index] = entry;
+        System.arraycopy(entries, index, result, index + 1, entries.length - index);
+        return result;
+    }
+
+    private static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        return name.replaceAll("\\s", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static class Entry {
+        private final String key;
+        private final String name;
+        private final Station station;
+
+        private Entry(String key, String name, Station station) {
+            this.key = key;
+            this.name = name;
+            this.station = station;
+        }
+    }
+}
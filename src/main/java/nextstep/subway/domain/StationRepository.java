@@ -1,6 +1,19 @@
 package nextstep.subway.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.util.List;
 
 public interface StationRepository extends JpaRepository<Station, Long> {
-}
\ No newline at end of file
+    @Override
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
+    List<Station> findAll();
+
+    @Query("select s.id as id, s.name as name from Station s where s.id > :after order by s.id")
+    List<StationSummary> findSummariesAfter(@Param("after") Long after, Pageable pageable);
+}
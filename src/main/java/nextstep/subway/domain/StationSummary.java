@@ -0,0 +1,7 @@
+package nextstep.subway.domain;
+
+public interface StationSummary {
+    Long getId();
+
+    String getName();
+}
@@ -0,0 +1,175 @@
+package nextstep.subway.domain;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+public class SubwayNetwork {
+    private final long version;
+    private final Map<Long, List<NetworkSection>> lineSections;
+    private final Map<Long, Integer> extraFares;
+    // Line versions the sections and fares were taken from; listeners of concurrent commits may arrive out of order
+    private final Map<Long, Long> sectionVersions;
+    private final Map<Long, Long> fareVersions;
+
+    private SubwayNetwork(long version, Map<Long, List<NetworkSection>> lineSections, Map<Long, Integer> extraFares,
+                          Map<Long, Long> sectionVersions, Map<Long, Long> fareVersions) {
+        this.version = version;
+        this.lineSections = Collections.unmodifiableMap(lineSections);
+        this.extraFares = Collections.unmodifiableMap(extraFares);
+        this.sectionVersions = sectionVersions;
+        this.fareVersions = fareVersions;
+    }
+
+    public static SubwayNetwork of(long version, List<Line> lines) {
+        Map<Long, List<NetworkSection>> lineSections = new HashMap<>();
+        Map<Long, Integer> extraFares = new HashMap<>();
+        Map<Long, Long> lineVersions = new HashMap<>();
+        for (Line line : lines) {
+            List<NetworkSection> sections = line.getSections().stream()
+                    .map(NetworkSection::new)
+                    .collect(Collectors.toList());
+            lineSections.put(line.getId(), Collections.unmodifiableList(sections));
+            extraFares.put(line.getId(), line.getExtraFare());
+            if (line.getVersion() != null) {
+                lineVersions.put(line.getId(), line.getVersion());
+            }
+        }
+        return new SubwayNetwork(version, lineSections, extraFares, lineVersions, lineVersions);
+    }
+
+    public static SubwayNetwork restore(long version, Map<Long, List<NetworkSection>> lineSections, Map<Long, Integer> extraFares) {
+        Map<Long, List<NetworkSection>> sections = new HashMap<>();
+        lineSections.forEach((lineId, it) -> sections.put(lineId, Collections.unmodifiableList(new ArrayList<>(it))));
+        return new SubwayNetwork(version, sections, new HashMap<>(extraFares), Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    public SubwayNetwork replaceLine(Line line) {
+        SubwayNetwork next = this;
+        if (!isOlder(sectionVersions, line.getId(), line.getVersion())) {
+            List<NetworkSection> sections = line.getSections().stream()
+                    .map(NetworkSection::new)
+                    .collect(Collectors.toList());
+            next = withLine(line.getId(), sections, line.getVersion());
+        }
+        return next.changeExtraFare(line);
+    }
+
+    public SubwayNetwork changeExtraFare(Line line) {
+        if (isOlder(fareVersions, line.getId(), line.getVersion())) {
+            return this;
+        }
+        return changeExtraFare(line.getId(), line.getExtraFare(), withVersion(fareVersions, line.getId(), line.getVersion()));
+    }
+
+    public SubwayNetwork changeExtraFare(Long lineId, int extraFare) {
+        return changeExtraFare(lineId, extraFare, fareVersions);
+    }
+
+    private SubwayNetwork changeExtraFare(Long lineId, int extraFare, Map<Long, Long> nextFareVersions) {
+        if (getExtraFare(lineId) == extraFare) {
+            return nextFareVersions == fareVersions ? this
+                    : new SubwayNetwork(version, lineSections, extraFares, sectionVersions, nextFareVersions);
+        }
+        Map<Long, Integer> next = new HashMap<>(extraFares);
+        next.put(lineId, extraFare);
+        return new SubwayNetwork(version + 1, lineSections, next, sectionVersions, nextFareVersions);
+    }
+
+    public SubwayNetwork removeLine(Long lineId) {
+        if (!lineSections.containsKey(lineId)) {
+            return this;
+        }
+        Map<Long, List<NetworkSection>> next = new HashMap<>(lineSections);
+        next.remove(lineId);
+        Map<Long, Integer> nextExtraFares = new HashMap<>(extraFares);
+        nextExtraFares.remove(lineId);
+        // line ids are never reused, so a late listener of an earlier commit must not bring the line back
+        return new SubwayNetwork(version + 1, next, nextExtraFares,
+                withVersion(sectionVersions, lineId, Long.MAX_VALUE), withVersion(fareVersions, lineId, Long.MAX_VALUE));
+    }
+
+    public SubwayNetwork removeStation(Long stationId) {
+        Map<Long, List<NetworkSection>> next = new HashMap<>(lineSections);
+        lineSections.forEach((lineId, sections) -> {
+            if (sections.stream().anyMatch(it -> it.hasStation(stationId))) {
+                next.put(lineId, Collections.unmodifiableList(sections.stream()
+                        .filter(it -> !it.hasStation(stationId))
+                        .collect(Collectors.toList())));
+            }
+        });
+        return new SubwayNetwork(version + 1, next, extraFares, sectionVersions, fareVersions);
+    }
+
+    private SubwayNetwork withLine(Long lineId, List<NetworkSection> sections, Long lineVersion) {
+        Map<Long, List<NetworkSection>> next = new HashMap<>(lineSections);
+        next.put(lineId, Collections.unmodifiableList(sections));
+        return new SubwayNetwork(version + 1, next, extraFares, withVersion(sectionVersions, lineId, lineVersion), fareVersions);
+    }
+
+    private static boolean isOlder(Map<Long, Long> versions, Long lineId, Long lineVersion) {
+        Long known = versions.get(lineId);
+        return known != null && lineVersion != null && lineVersion <= known;
+    }
+
+    private static Map<Long, Long> withVersion(Map<Long, Long> versions, Long lineId, Long lineVersion) {
+        if (lineVersion == null) {
+            return versions;
+        }
+        Map<Long, Long> next = new HashMap<>(versions);
+        next.put(lineId, lineVersion);
+        return next;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<NetworkSection> getSections() {
+        return lineSections.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    public byte[] getDigest() {
+        List<NetworkSection> sections = getSections();
+        sections.sort(Comparator.comparing((NetworkSection it) -> it.getUpStation().getId())
+                .thenComparing(it -> it.getDownStation().getId())
+                .thenComparingInt(NetworkSection::getDistance));
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + sections.size() * (2 * Long.BYTES + Integer.BYTES));
+        buffer.putInt(sections.size());
+        for (NetworkSection section : sections) {
+            buffer.putLong(section.getUpStation().getId())
+                    .putLong(section.getDownStation().getId())
+                    .putInt(section.getDistance());
+        }
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(buffer.array());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public int getExtraFare(Long lineId) {
+        return extraFares.getOrDefault(lineId, 0);
+    }
+
+    public Set<Long> getLineIds() {
+        Set<Long> lineIds = new TreeSet<>(lineSections.keySet());
+        lineIds.addAll(extraFares.keySet());
+        return lineIds;
+    }
+
+    public List<NetworkSection> getSections(Long lineId) {
+        return lineSections.getOrDefault(lineId, Collections.emptyList());
+    }
+}
@@ -0,0 +1,103 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+public class TransferAwarePathFinder {
+    private final CsrGraph graph;
+
+    public TransferAwarePathFinder(CsrGraph graph) {
+        this.graph = graph;
+    }
+
+    public TransferPath findPath(Long source, Long target, TransferPriority priority, int transferPenalty) {
+        int from = graph.indexOf(source);
+        int to = graph.indexOf(target);
+        if (from < 0 || to < 0 || from == to || transferPenalty < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        long transferCost = priority.transferCost(transferPenalty);
+        int notBoarded = graph.lineCount();
+        Map<Long, Label> labels = new HashMap<>();
+        PriorityQueue<Label> queue = new PriorityQueue<>(Comparator.comparingLong((Label it) -> it.cost)
+                .thenComparingInt(it -> it.distance));
+        Label start = new Label(from, notBoarded, 0L, 0, 0, null);
+        labels.put(keyOf(from, notBoarded), start);
+        queue.add(start);
+
+        while (!queue.isEmpty()) {
+            Label label = queue.poll();
+            if (labels.get(keyOf(label.station, label.line)) != label) {
+                continue;
+            }
+            if (label.station == to) {
+                return toPath(label);
+            }
+
+            for (int arc = graph.arcBegin(label.station); arc < graph.arcEnd(label.station); arc++) {
+                int line = graph.arcLine(arc);
+                int distance = graph.arcDistance(arc);
+                boolean transfer = label.line != notBoarded && label.line != line;
+                Label next = new Label(graph.arcTarget(arc), line,
+                        label.cost + distance + (transfer ? transferCost : 0L),
+                        label.distance + distance,
+                        label.transferCount + (transfer ? 1 : 0),
+                        label);
+                long key = keyOf(next.station, next.line);
+                Label known = labels.get(key);
+                if (known == null || next.cost < known.cost || (next.cost == known.cost && next.distance < known.distance)) {
+                    labels.put(key, next);
+                    queue.add(next);
+                }
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    private TransferPath toPath(Label last) {
+        List<Station> path = new ArrayList<>();
+        List<Long> pathLineIds = new ArrayList<>();
+        for (Label label = last; label != null; label = label.previous) {
+            path.add(graph.stationAt(label.station));
+            if (label.previous != null) {
+                pathLineIds.add(graph.lineIdAt(label.line));
+            }
+        }
+        Collections.reverse(path);
+        Collections.reverse(pathLineIds);
+        return new TransferPath(Collections.unmodifiableList(path), Collections.unmodifiableList(pathLineIds),
+                last.distance, last.transferCount);
+    }
+
+    private long keyOf(int station, int line) {
+        return (long) station * (graph.lineCount() + 1) + line;
+    }
+
+    public long getVersion() {
+        return graph.getVersion();
+    }
+
+    private static class Label {
+        private final int station;
+        private final int line;
+        private final long cost;
+        private final int distance;
+        private final int transferCount;
+        private final Label previous;
+
+        private Label(int station, int line, long cost, int distance, int transferCount, Label previous) {
+            this.station = station;
+            this.line = line;
+            this.cost = cost;
+            this.distance = distance;
+            this.transferCount = transferCount;
+            this.previous = previous;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package nextstep.subway.domain;
+
+import java.util.List;
+
+public class TransferPath extends Path {
+    private final int transferCount;
+
+    public TransferPath(List<Station> stations, List<Long> lineIds, int distance, int transferCount) {
+        super(stations, lineIds, distance);
+        this.transferCount = transferCount;
+    }
+
+    public int getTransferCount() {
+        return transferCount;
+    }
+}
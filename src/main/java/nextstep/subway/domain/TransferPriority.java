@@ -0,0 +1,12 @@
+package nextstep.subway.domain;
+
+public enum TransferPriority {
+    MIN_TIME,
+    FEWEST_TRANSFERS;
+
+    private static final long TRANSFER_DOMINATES = 1L << 32;
+
+    long transferCost(int transferPenalty) {
+        return this == FEWEST_TRANSFERS ? TRANSFER_DOMINATES : transferPenalty;
+    }
+}
@@ -0,0 +1,193 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class YenKShortestPaths {
+    private final CsrGraph graph;
+
+    public YenKShortestPaths(CsrGraph graph) {
+        this.graph = graph;
+    }
+
+    public AlternativePaths find(Long source, Long target, int k, double maxDetourRatio, long deadlineNanos) {
+        int from = graph.indexOf(source);
+        int to = graph.indexOf(target);
+        if (from < 0 || to < 0 || from == to || k < 1 || maxDetourRatio < 1.0) {
+            throw new IllegalArgumentException();
+        }
+
+        Search search = new Search(graph.nodeCount());
+        Route shortest = search.find(from, to, Collections.emptySet(), Integer.MAX_VALUE);
+        if (shortest == null) {
+            throw new IllegalArgumentException();
+        }
+
+        long maxDistance = (long) Math.floor(shortest.distance() * maxDetourRatio);
+        List<Route> found = new ArrayList<>();
+        found.add(shortest);
+        PriorityQueue<Route> candidates = new PriorityQueue<>(Comparator.comparingInt(Route::distance)
+                .thenComparingInt(it -> it.nodes.length));
+        Set<List<Integer>> seen = new HashSet<>();
+        seen.add(shortest.key());
+
+        while (found.size() < k) {
+            Route previous = found.get(found.size() - 1);
+            for (int i = 0; i < previous.nodes.length - 1; i++) {
+                if (System.nanoTime() - deadlineNanos > 0) {
+                    return toAlternativePaths(found, false);
+                }
+
+                Set<Integer> blockedTargets = new HashSet<>();
+                for (Route route : found) {
+                    if (route.hasPrefix(previous, i)) {
+                        blockedTargets.add(route.nodes[i + 1]);
+                    }
+                }
+                search.block(previous.nodes, i);
+
+                long remaining = maxDistance - previous.distances[i];
+                Route spur = search.find(previous.nodes[i], to, blockedTargets, (int) Math.min(remaining, Integer.MAX_VALUE));
+                if (spur != null) {
+                    Route candidate = previous.join(i, spur);
+                    if (seen.add(candidate.key())) {
+                        candidates.add(candidate);
+                    }
+                }
+            }
+
+            Route next = candidates.poll();
+            if (next == null) {
+                break;
+            }
+            found.add(next);
+        }
+        return toAlternativePaths(found, true);
+    }
+
+    private AlternativePaths toAlternativePaths(List<Route> routes, boolean complete) {
+        List<Path> paths = routes.stream()
+                .map(this::toPath)
+                .collect(Collectors.toList());
+        return new AlternativePaths(paths, complete);
+    }
+
+    private Path toPath(Route route) {
+        List<Station> stations = Arrays.stream(route.nodes)
+                .mapToObj(graph::stationAt)
+                .collect(Collectors.toList());
+        List<Long> lineIds = new ArrayList<>(route.nodes.length - 1);
+        for (int i = 1; i < route.nodes.length; i++) {
+            int arc = graph.arcBetween(route.nodes[i - 1], route.nodes[i], route.distances[i] - route.distances[i - 1]);
+            lineIds.add(graph.lineIdOf(arc));
+        }
+        return new Path(stations, lineIds, route.distance());
+    }
+
+    public long getVersion() {
+        return graph.getVersion();
+    }
+
+    private class Search {
+        private final SearchState state;
+        private final int[] blocked;
+        private int stamp = 1;
+
+        private Search(int nodeCount) {
+            this.state = new SearchState(nodeCount);
+            this.blocked = new int[nodeCount];
+        }
+
+        private void block(int[] nodes, int spurIndex) {
+            stamp++;
+            for (int i = 0; i < spurIndex; i++) {
+                blocked[nodes[i]] = stamp;
+            }
+        }
+
+        private Route find(int from, int to, Set<Integer> blockedTargets, int maxDistance) {
+            state.reset(graph.nodeCount());
+            state.reach(from, 0, from);
+            while (state.hasNext()) {
+                int node = state.settleNext();
+                if (node == to) {
+                    return unwind(from, to);
+                }
+                int distance = state.distance(node);
+                for (int arc = graph.arcBegin(node); arc < graph.arcEnd(node); arc++) {
+                    int next = graph.arcTarget(arc);
+                    int nextDistance = distance + graph.arcDistance(arc);
+                    if (blocked[next] == stamp || (node == from && blockedTargets.contains(next))) {
+                        continue;
+                    }
+                    if (nextDistance <= maxDistance && !state.isSettled(next) && nextDistance < state.distance(next)) {
+                        state.reach(next, nextDistance, node);
+                    }
+                }
+            }
+            return null;
+        }
+
+        private Route unwind(int from, int to) {
+            List<Integer> nodes = new ArrayList<>();
+            for (int node = to; node != from; node = state.previous(node)) {
+                nodes.add(node);
+            }
+            nodes.add(from);
+            Collections.reverse(nodes);
+
+            int[] path = nodes.stream().mapToInt(Integer::intValue).toArray();
+            int[] distances = Arrays.stream(path).map(state::distance).toArray();
+            return new Route(path, distances);
+        }
+    }
+
+    private static class Route {
+        private final int[] nodes;
+        private final int[] distances;
+
+        private Route(int[] nodes, int[] distances) {
+            this.nodes = nodes;
+            this.distances = distances;
+        }
+
+        private int distance() {
+            return distances[distances.length - 1];
+        }
+
+        private boolean hasPrefix(Route other, int spurIndex) {
+            if (nodes.length <= spurIndex + 1) {
+                return false;
+            }
+            for (int i = 0; i <= spurIndex; i++) {
+                if (nodes[i] != other.nodes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Route join(int spurIndex, Route spur) {
+            int[] joinedNodes = new int[spurIndex + spur.nodes.length];
+            int[] joinedDistances = new int[joinedNodes.length];
+            System.arraycopy(nodes, 0, joinedNodes, 0, spurIndex);
+            System.arraycopy(distances, 0, joinedDistances, 0, spurIndex);
+            for (int i = 0; i < spur.nodes.length; i++) {
+                joinedNodes[spurIndex + i] = spur.nodes[i];
+                joinedDistances[spurIndex + i] = distances[spurIndex] + spur.distances[i];
+            }
+            return new Route(joinedNodes, joinedDistances);
+        }
+
+        private List<Integer> key() {
+            return Arrays.stream(nodes).boxed().collect(Collectors.toList());
+        }
+    }
+}
@@ -1,22 +1,26 @@
 package nextstep.subway.ui;
 
 import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.dto.CursorResponse;
 import nextstep.subway.applicaion.dto.LineRequest;
 import nextstep.subway.applicaion.dto.LineResponse;
 import nextstep.subway.applicaion.dto.SectionRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/lines")
 public class LineController {
     private LineService lineService;
+    private SerializedResponseCache responseCache;
 
-    public LineController(LineService lineService) {
+    public LineController(LineService lineService, SerializedResponseCache responseCache) {
         this.lineService = lineService;
+        this.responseCache = responseCache;
     }
 
     @PostMapping
@@ -26,9 +30,15 @@ public class LineController {
     }
 
     @GetMapping
-    public ResponseEntity<List<LineResponse>> showLines() {
-        List<LineResponse> responses = lineService.showLines();
-        return ResponseEntity.ok().body(responses);
+    public ResponseEntity<byte[]> showLines(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return responseCache.get(SerializedResponseCache.LINES, lineService::showLines).toResponseEntity(acceptEncoding);
+    }
+
+    @GetMapping(params = "size")
+    public ResponseEntity<CursorResponse<LineResponse>> showLines(@RequestParam(defaultValue = "0") Long after, @RequestParam int size,
+                                                                  @RequestParam(required = false) Set<String> fields) {
+        boolean withStations = fields == null || fields.contains("stations");
+        return ResponseEntity.ok().body(lineService.findLines(after, size, withStations));
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,63 @@
+package nextstep.subway.ui;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.subway.applicaion.LineExportService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+public class LineExportController {
+    private LineExportService lineExportService;
+    private ObjectMapper objectMapper;
+
+    public LineExportController(LineExportService lineExportService, ObjectMapper objectMapper) {
+        this.lineExportService = lineExportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping(value = "/lines/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportLinesAsNdjson() {
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.APPLICATION_NDJSON, StandardCharsets.UTF_8))
+                .body(output -> export(output, false));
+    }
+
+    @GetMapping(value = "/lines/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportLinesAsJson() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(output -> export(output, true));
+    }
+
+    private void export(OutputStream output, boolean array) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            if (array) {
+                generator.writeStartArray();
+            }
+            lineExportService.exportLines(line -> {
+                try {
+                    generator.writeObject(line);
+                    if (!array) {
+                        generator.writeRaw('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (array) {
+                generator.writeEndArray();
+            }
+        }
+    }
+}
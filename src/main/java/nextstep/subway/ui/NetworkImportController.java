@@ -0,0 +1,28 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.applicaion.NetworkImportService;
+import nextstep.subway.applicaion.dto.NetworkImportResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+public class NetworkImportController {
+    private NetworkImportService networkImportService;
+
+    public NetworkImportController(NetworkImportService networkImportService) {
+        this.networkImportService = networkImportService;
+    }
+
+    @PostMapping(value = "/network/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<NetworkImportResponse> importNetwork(HttpServletRequest request) throws IOException {
+        try (InputStream input = request.getInputStream()) {
+            return ResponseEntity.ok().body(networkImportService.importNetwork(input));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.applicaion.PathBatchService;
+import nextstep.subway.applicaion.PathService;
+import nextstep.subway.applicaion.dto.AlternativePathsResponse;
+import nextstep.subway.applicaion.dto.DistanceResponse;
+import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.TransferPathResponse;
+import nextstep.subway.domain.FareDiscount;
+import nextstep.subway.domain.TransferPriority;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+public class PathController {
+    private PathService pathService;
+    private PathBatchService pathBatchService;
+
+    public PathController(PathService pathService, PathBatchService pathBatchService) {
+        this.pathService = pathService;
+        this.pathBatchService = pathBatchService;
+    }
+
+    @GetMapping("/paths")
+    public ResponseEntity<PathResponse> findPath(@RequestParam Long source, @RequestParam Long target,
+                                                 @RequestParam(required = false) Integer age) {
+        return ResponseEntity.ok().body(pathService.findPath(source, target, FareDiscount.of(age)));
+    }
+
+    @GetMapping(value = "/paths", params = "type")
+    public ResponseEntity<TransferPathResponse> findPath(@RequestParam Long source, @RequestParam Long target,
+                                                         @RequestParam TransferPriority type,
+                                                         @RequestParam(required = false) Integer age) {
+        return ResponseEntity.ok().body(pathService.findPath(source, target, type, FareDiscount.of(age)));
+    }
+
+    @GetMapping("/paths/distance")
+    public ResponseEntity<DistanceResponse> findDistance(@RequestParam Long source, @RequestParam Long target) {
+        return ResponseEntity.ok().body(pathService.findDistance(source, target));
+    }
+
+    @GetMapping("/paths/alternatives")
+    public ResponseEntity<AlternativePathsResponse> findAlternativePaths(@RequestParam Long source, @RequestParam Long target,
+                                                                         @RequestParam(defaultValue = "3") int k,
+                                                                         @RequestParam(defaultValue = "1.5") double maxDetourRatio,
+                                                                         @RequestParam(required = false) Integer age) {
+        return ResponseEntity.ok().body(pathService.findAlternativePaths(source, target, k, maxDetourRatio, FareDiscount.of(age)));
+    }
+
+    @PostMapping(value = "/paths/batch", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> findDistances(HttpServletRequest request,
+                                                               @RequestParam(required = false) Integer age) {
+        FareDiscount discount = FareDiscount.of(age);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.APPLICATION_NDJSON, StandardCharsets.UTF_8))
+                .body(output -> {
+                    try (InputStream input = request.getInputStream()) {
+                        pathBatchService.findDistances(input, output, discount);
+                    }
+                });
+    }
+}
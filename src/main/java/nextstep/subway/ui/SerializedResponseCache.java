@@ -0,0 +1,123 @@
+package nextstep.subway.ui;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.subway.applicaion.LineResponseCache;
+import nextstep.subway.applicaion.event.LineCreatedEvent;
+import nextstep.subway.applicaion.event.LineDeletedEvent;
+import nextstep.subway.applicaion.event.LineUpdatedEvent;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
+import nextstep.subway.applicaion.event.SectionAddedEvent;
+import nextstep.subway.applicaion.event.SectionRemovedEvent;
+import nextstep.subway.applicaion.event.StationCreatedEvent;
+import nextstep.subway.applicaion.event.StationDeletedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+public class SerializedResponseCache {
+    public static final String LINES = "lines";
+    public static final String STATIONS = "stations";
+    // bytes are rebuilt from LineService's response caches, so those must be evicted before the version moves
+    private static final int SERIALIZATION_ORDER = LineResponseCache.EVICTION_ORDER + 1;
+
+    private ObjectMapper objectMapper;
+    private boolean enabled;
+
+    private final Map<String, SerializedResponse> responses = new ConcurrentHashMap<>();
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    public SerializedResponseCache(ObjectMapper objectMapper,
+                                   @Value("${subway.serialized-response-cache.enabled:true}") boolean enabled) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    public SerializedResponse get(String key, Supplier<?> body) {
+        if (!enabled) {
+            return SerializedResponse.uncached(serialize(body.get()));
+        }
+        SerializedResponse cached = responses.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = versionOf(key);
+        SerializedResponse serialized = new SerializedResponse(serialize(body.get()));
+        responses.compute(key, (it, current) -> versionOf(it) == version ? serialized : current);
+        return serialized;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Order(SERIALIZATION_ORDER)
+    @TransactionalEventListener
+    public void onLineCreated(LineCreatedEvent event) {
+        invalidate(LINES);
+    }
+
+    @Order(SERIALIZATION_ORDER)
+    @TransactionalEventListener
+    public void onLineUpdated(LineUpdatedEvent event) {
+        invalidate(LINES);
+    }
+
+    @Order(SERIALIZATION_ORDER)
+    @TransactionalEventListener
+    public void onLineDeleted(LineDeletedEvent event) {
+        invalidate(LINES);
+    }
+
+    @Order(SERIALIZATION_ORDER)
+    @TransactionalEventListener
+    public void onSectionAdded(SectionAddedEvent event) {
+        invalidate(LINES);
+    }
+
+    @Order(SERIALIZATION_ORDER)
+    @TransactionalEventListener
+    public void onSectionRemoved(SectionRemovedEvent event) {
+        invalidate(LINES);
+    }
+
+    @Order(SERIALIZATION_ORDER)
+    @TransactionalEventListener
+    public void onStationCreated(StationCreatedEvent event) {
+        invalidate(STATIONS);
+    }
+
+    @Order(SERIALIZATION_ORDER)
+    @TransactionalEventListener
+    public void onStationDeleted(StationDeletedEvent event) {
+        invalidate(STATIONS);
+        invalidate(LINES);
+    }
+
+    @Order(SERIALIZATION_ORDER)
+    @TransactionalEventListener
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        invalidate(STATIONS);
+        invalidate(LINES);
+    }
+
+    private void invalidate(String key) {
+        versions.merge(key, 1L, Long::sum);
+        responses.remove(key);
+    }
+
+    private long versionOf(String key) {
+        return versions.getOrDefault(key, 0L);
+    }
+}
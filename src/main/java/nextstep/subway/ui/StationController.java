@@ -1,8 +1,11 @@
 package nextstep.subway.ui;
 
+import nextstep.subway.applicaion.StationSearchService;
 import nextstep.subway.applicaion.StationService;
+import nextstep.subway.applicaion.dto.CursorResponse;
 import nextstep.subway.applicaion.dto.StationRequest;
 import nextstep.subway.applicaion.dto.StationResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,9 +16,13 @@ import java.util.List;
 @RestController
 public class StationController {
     private StationService stationService;
+    private StationSearchService stationSearchService;
+    private SerializedResponseCache responseCache;
 
-    public StationController(StationService stationService) {
+    public StationController(StationService stationService, StationSearchService stationSearchService, SerializedResponseCache responseCache) {
         this.stationService = stationService;
+        this.stationSearchService = stationSearchService;
+        this.responseCache = responseCache;
     }
 
     @PostMapping("/stations")
@@ -25,8 +32,18 @@ public class StationController {
     }
 
     @GetMapping(value = "/stations", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<StationResponse>> showStations() {
-        return ResponseEntity.ok().body(stationService.findAllStations());
+    public ResponseEntity<byte[]> showStations(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return responseCache.get(SerializedResponseCache.STATIONS, stationService::findAllStations).toResponseEntity(acceptEncoding);
+    }
+
+    @GetMapping(value = "/stations", params = "size")
+    public ResponseEntity<CursorResponse<StationResponse>> showStations(@RequestParam(defaultValue = "0") Long after, @RequestParam int size) {
+        return ResponseEntity.ok().body(stationService.findStations(after, size));
+    }
+
+    @GetMapping("/stations/search")
+    public ResponseEntity<List<StationResponse>> searchStations(@RequestParam String prefix, @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok().body(stationSearchService.search(prefix, limit));
     }
 
     @DeleteMapping("/stations/{id}")
@@ -1,10 +1,12 @@
 package nextstep.subway.acceptance;
 
 import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
@@ -53,6 +55,36 @@ class LineAcceptanceTest extends AcceptanceTest {
         assertThat(response.jsonPath().getList("name")).contains("2호선", "3호선");
     }
 
+    /**
+     * Given 지하철 노선 목록을 조회하고
+     * When 응답받은 ETag 로 다시 노선 목록을 조회하면
+     * Then 변경이 없으므로 본문 없이 304 를 응답받는다
+     * When 노선을 생성한 뒤 같은 ETag 로 노선 목록을 조회하면
+     * Then 새로운 노선 목록을 응답받는다
+     */
+    @DisplayName("지하철 노선 목록 조건부 조회")
+    @Test
+    void getLinesWithETag() {
+        // given
+        지하철_노선_생성_요청("2호선", "green");
+        String eTag = 지하철_노선_목록_조회_요청().header(HttpHeaders.ETAG);
+
+        // when
+        ExtractableResponse<Response> notModified = 지하철_노선_목록_조회_요청(eTag);
+
+        // then
+        assertThat(notModified.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+        // when
+        지하철_노선_생성_요청("3호선", "orange");
+        ExtractableResponse<Response> modified = 지하철_노선_목록_조회_요청(eTag);
+
+        // then
+        assertThat(modified.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(modified.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+        assertThat(modified.jsonPath().getList("name")).contains("2호선", "3호선");
+    }
+
     /**
      * Given 지하철 노선을 생성하고
      * When 생성한 지하철 노선을 조회하면
@@ -99,6 +131,75 @@ class LineAcceptanceTest extends AcceptanceTest {
         assertThat(response.jsonPath().getString("color")).isEqualTo("red");
     }
 
+    /**
+     * Given 구간이 있는 지하철 노선 3개를 생성하고
+     * When 역 목록 없이 지하철 노선 목록을 2개씩 페이지로 조회하면
+     * Then 역 목록이 없는 2개의 노선과 다음 커서를 응답받는다
+     * When 다음 커서로 역 목록을 포함해 조회하면
+     * Then 역 목록이 포함된 나머지 노선을 응답받는다
+     */
+    @DisplayName("지하철 노선 목록 페이지 조회")
+    @Test
+    void getLinesByCursor() {
+        // given
+        Long 교대역 = StationSteps.지하철역_생성_요청("교대역").jsonPath().getLong("id");
+        Long 강남역 = StationSteps.지하철역_생성_요청("강남역").jsonPath().getLong("id");
+        지하철_노선_생성_요청(createLineCreateParams("2호선", "green", 교대역, 강남역, 10));
+        지하철_노선_생성_요청(createLineCreateParams("3호선", "orange", 교대역, 강남역, 10));
+        지하철_노선_생성_요청(createLineCreateParams("신분당선", "red", 교대역, 강남역, 10));
+
+        // when
+        ExtractableResponse<Response> first = 지하철_노선_목록_페이지_조회_요청(0L, 2, "id,name");
+
+        // then
+        assertThat(first.jsonPath().getList("content.name")).containsExactly("2호선", "3호선");
+        assertThat(first.jsonPath().getMap("content[0]")).doesNotContainKey("stations");
+
+        // when
+        ExtractableResponse<Response> second = 지하철_노선_목록_페이지_조회_요청(first.jsonPath().getLong("next"), 2, "id,name,stations");
+
+        // then
+        assertThat(second.jsonPath().getList("content.name")).containsExactly("신분당선");
+        assertThat(second.jsonPath().getList("content[0].stations.id", Long.class)).containsExactly(교대역, 강남역);
+        assertThat(second.jsonPath().getString("next")).isNull();
+    }
+
+    /**
+     * Given 구간이 있는 지하철 노선 2개를 생성하고
+     * When 지하철 노선 전체를 NDJSON 으로 내보내면
+     * Then 한 줄에 하나씩 노선과 역 목록을 응답받는다
+     * When 지하철 노선 전체를 JSON 으로 내보내면
+     * Then 노선 목록 조회와 같은 내용을 응답받는다
+     */
+    @DisplayName("지하철 노선 전체 내보내기")
+    @Test
+    void exportLines() {
+        // given
+        Long 교대역 = StationSteps.지하철역_생성_요청("교대역").jsonPath().getLong("id");
+        Long 강남역 = StationSteps.지하철역_생성_요청("강남역").jsonPath().getLong("id");
+        Long 양재역 = StationSteps.지하철역_생성_요청("양재역").jsonPath().getLong("id");
+        지하철_노선_생성_요청(createLineCreateParams("2호선", "green", 교대역, 강남역, 10));
+        지하철_노선_생성_요청(createLineCreateParams("신분당선", "red", 강남역, 양재역, 10));
+
+        // when
+        ExtractableResponse<Response> ndjson = 지하철_노선_내보내기_요청(MediaType.APPLICATION_NDJSON_VALUE);
+
+        // then
+        assertThat(ndjson.statusCode()).isEqualTo(HttpStatus.OK.value());
+        String[] lines = ndjson.asString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(new JsonPath(lines[0]).getString("name")).isEqualTo("2호선");
+        assertThat(new JsonPath(lines[1]).getList("stations.id", Long.class)).containsExactly(강남역, 양재역);
+
+        // when
+        ExtractableResponse<Response> json = 지하철_노선_내보내기_요청(MediaType.APPLICATION_JSON_VALUE);
+
+        // then
+        assertThat(json.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(json.jsonPath().getList("name")).containsExactly("2호선", "신분당선");
+        assertThat(json.jsonPath().getList("stations[0].id", Long.class)).containsExactly(교대역, 강남역);
+    }
+
     /**
      * Given 지하철 노선을 생성하고
      * When 생성한 지하철 노선을 삭제하면
@@ -119,4 +220,14 @@ class LineAcceptanceTest extends AcceptanceTest {
         // then
         assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
     }
+
+    private Map<String, String> createLineCreateParams(String name, String color, Long upStationId, Long downStationId, int distance) {
+        Map<String, String> params = new HashMap<>();
+        params.put("name", name);
+        params.put("color", color);
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", distance + "");
+        return params;
+    }
 }
@@ -3,6 +3,7 @@ package nextstep.subway.acceptance;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 import java.util.HashMap;
@@ -28,6 +29,32 @@ public class LineSteps {
                 .then().log().all().extract();
     }
 
+    public static ExtractableResponse<Response> 지하철_노선_목록_조회_요청(String eTag) {
+        return RestAssured
+                .given().log().all()
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get("/lines")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선_목록_페이지_조회_요청(Long after, int size, String fields) {
+        return RestAssured
+                .given().log().all()
+                .queryParam("after", after)
+                .queryParam("size", size)
+                .queryParam("fields", fields)
+                .when().get("/lines")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선_내보내기_요청(String accept) {
+        return RestAssured
+                .given().log().all()
+                .accept(accept)
+                .when().get("/lines/export")
+                .then().log().all().extract();
+    }
+
     public static ExtractableResponse<Response> 지하철_노선_조회_요청(ExtractableResponse<Response> createResponse) {
         return RestAssured
                 .given().log().all()
@@ -51,6 +78,15 @@ public class LineSteps {
                 .then().log().all().extract();
     }
 
+    public static ExtractableResponse<Response> 지하철_노선_수정_요청(Long id, Map<String, String> params) {
+        return RestAssured
+                .given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().put("/lines/{id}", id)
+                .then().log().all().extract();
+    }
+
     public static ExtractableResponse<Response> 지하철_노선에_지하철_구간_생성_요청(Long lineId, Map<String, String> params) {
         return RestAssured.given().log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -0,0 +1,65 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성_요청;
+import static nextstep.subway.acceptance.MetricsSteps.지표_조회_요청;
+import static nextstep.subway.acceptance.MetricsSteps.지표_측정값;
+import static nextstep.subway.acceptance.PathSteps.지하철_경로_거리_일괄_조회_요청;
+import static nextstep.subway.acceptance.PathSteps.지하철_경로_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("운영 지표 수집")
+class MetricsAcceptanceTest extends AcceptanceTest {
+    /**
+     * Given 지하철역과 노선을 생성하고
+     * When 경로와 여러 역 쌍의 거리를 조회하면
+     * Then 서비스 메서드 실행 시간, 요청별 SQL 실행 횟수, 경로 탐색 지표가 수집된다
+     * Then 응답을 스트리밍하는 요청의 SQL 실행 횟수는 수집하지 않는다
+     */
+    @DisplayName("서비스, SQL, 경로 탐색 지표 수집")
+    @Test
+    void collectMetrics() {
+        // given
+        Long 교대역 = 지하철역_생성_요청("교대역").jsonPath().getLong("id");
+        Long 강남역 = 지하철역_생성_요청("강남역").jsonPath().getLong("id");
+        지하철_노선_생성_요청(createLineCreateParams("2호선", "green", 교대역, 강남역, 10));
+
+        // when
+        지하철_경로_조회_요청(교대역, 강남역);
+        지하철_경로_거리_일괄_조회_요청("{\"source\":" + 교대역 + ",\"target\":" + 강남역 + "}\n");
+
+        // then
+        ExtractableResponse<Response> service = 지표_조회_요청("subway.service", "method:saveStation");
+        assertThat(service.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(지표_측정값(service, "COUNT")).isGreaterThanOrEqualTo(2);
+
+        ExtractableResponse<Response> statements = 지표_조회_요청("subway.http.statements", "uri:/stations");
+        assertThat(statements.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(지표_측정값(statements, "TOTAL")).isGreaterThanOrEqualTo(2);
+
+        ExtractableResponse<Response> settled = 지표_조회_요청("subway.path.settled.nodes", "strategy:CSR_REUSABLE");
+        assertThat(settled.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(지표_측정값(settled, "TOTAL")).isGreaterThan(0);
+
+        assertThat(지표_조회_요청("subway.http.statements", "uri:/paths/batch").statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+
+    private Map<String, String> createLineCreateParams(String name, String color, Long upStationId, Long downStationId, int distance) {
+        Map<String, String> params = new HashMap<>();
+        params.put("name", name);
+        params.put("color", color);
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", distance + "");
+        return params;
+    }
+}
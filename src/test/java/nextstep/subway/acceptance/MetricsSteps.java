@@ -0,0 +1,20 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+public class MetricsSteps {
+    public static ExtractableResponse<Response> 지표_조회_요청(String name, String tag) {
+        return RestAssured.given().log().all()
+                .queryParam("tag", tag)
+                .when()
+                .get("/actuator/metrics/{name}", name)
+                .then().log().all()
+                .extract();
+    }
+
+    public static double 지표_측정값(ExtractableResponse<Response> response, String statistic) {
+        return response.jsonPath().getDouble("measurements.find { it.statistic == '" + statistic + "' }.value");
+    }
+}
@@ -0,0 +1,99 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_목록_조회_요청;
+import static nextstep.subway.acceptance.NetworkImportSteps.지하철_노선도_가져오기_요청;
+import static nextstep.subway.acceptance.PathSteps.지하철_경로_조회_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 노선도 가져오기")
+class NetworkImportAcceptanceTest extends AcceptanceTest {
+    private static final String 노선도 = "{"
+            + "\"stations\":[{\"name\":\"교대역\"},{\"name\":\"강남역\"},{\"name\":\"양재역\"},{\"name\":\"남부터미널역\"}],"
+            + "\"lines\":["
+            + "{\"name\":\"2호선\",\"color\":\"green\",\"sections\":[{\"upStation\":\"교대역\",\"downStation\":\"강남역\",\"distance\":10}]},"
+            + "{\"name\":\"3호선\",\"color\":\"orange\",\"sections\":["
+            + "{\"upStation\":\"교대역\",\"downStation\":\"남부터미널역\",\"distance\":2},"
+            + "{\"upStation\":\"남부터미널역\",\"downStation\":\"양재역\",\"distance\":3}]}"
+            + "]}";
+
+    /**
+     * When 역과 노선이 담긴 노선도를 가져오면
+     * Then 가져온 역, 노선, 구간의 수를 응답받고
+     * Then 지하철 노선 목록과 경로 조회에 반영된다
+     */
+    @DisplayName("지하철 노선도 가져오기")
+    @Test
+    void importNetwork() {
+        // when
+        ExtractableResponse<Response> response = 지하철_노선도_가져오기_요청(노선도);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getInt("stationCount")).isEqualTo(4);
+        assertThat(response.jsonPath().getInt("lineCount")).isEqualTo(2);
+        assertThat(response.jsonPath().getInt("sectionCount")).isEqualTo(3);
+
+        // then
+        ExtractableResponse<Response> lines = 지하철_노선_목록_조회_요청();
+        assertThat(lines.jsonPath().getList("name")).containsExactly("2호선", "3호선");
+        assertThat(lines.jsonPath().getList("stations[1].name")).containsExactly("교대역", "남부터미널역", "양재역");
+
+        Long 교대역 = lines.jsonPath().getLong("stations[1][0].id");
+        Long 양재역 = lines.jsonPath().getLong("stations[1][2].id");
+        ExtractableResponse<Response> path = 지하철_경로_조회_요청(교대역, 양재역);
+        assertThat(path.jsonPath().getInt("distance")).isEqualTo(5);
+    }
+
+    /**
+     * When 등록되지 않은 역을 참조하는 구간이 담긴 노선도를 가져오면
+     * Then 요청이 실패한다
+     */
+    @DisplayName("등록되지 않은 역을 참조하는 노선도 가져오기")
+    @Test
+    void importNetworkWithUnknownStation() {
+        // when
+        ExtractableResponse<Response> response = 지하철_노선도_가져오기_요청("{\"stations\":[{\"name\":\"교대역\"}],"
+                + "\"lines\":[{\"name\":\"2호선\",\"color\":\"green\",\"sections\":[{\"upStation\":\"교대역\",\"downStation\":\"강남역\",\"distance\":10}]}]}");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * When 노선 뒤에 역이 이어지는 노선도를 가져오면
+     * Then 노선 뒤의 역까지 모두 가져온다
+     */
+    @DisplayName("노선 뒤에 역이 이어지는 노선도 가져오기")
+    @Test
+    void importNetworkWithStationsAfterLines() {
+        // when
+        ExtractableResponse<Response> response = 지하철_노선도_가져오기_요청("{\"stations\":[{\"name\":\"교대역\"},{\"name\":\"강남역\"}],"
+                + "\"lines\":[{\"name\":\"2호선\",\"color\":\"green\",\"sections\":[{\"upStation\":\"교대역\",\"downStation\":\"강남역\",\"distance\":10}]}],"
+                + "\"stations\":[{\"name\":\"양재역\"}]}");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getInt("stationCount")).isEqualTo(3);
+        assertThat(response.jsonPath().getInt("lineCount")).isEqualTo(1);
+    }
+
+    /**
+     * When 같은 이름의 역이 두 번 담긴 노선도를 가져오면
+     * Then 요청이 실패한다
+     */
+    @DisplayName("중복된 역이 담긴 노선도 가져오기")
+    @Test
+    void importNetworkWithDuplicateStations() {
+        // when
+        ExtractableResponse<Response> response = 지하철_노선도_가져오기_요청("{\"stations\":[{\"name\":\"교대역\"},{\"name\":\"교대역\"}]}");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+}
@@ -0,0 +1,17 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.springframework.http.MediaType;
+
+public class NetworkImportSteps {
+    public static ExtractableResponse<Response> 지하철_노선도_가져오기_요청(String document) {
+        return RestAssured
+                .given().log().all()
+                .body(document)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/network/import")
+                .then().log().all().extract();
+    }
+}
@@ -0,0 +1,286 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static nextstep.subway.acceptance.LineSteps.*;
+import static nextstep.subway.acceptance.PathSteps.지하철_경로_거리_일괄_조회_요청;
+import static nextstep.subway.acceptance.PathSteps.지하철_경로_거리_조회_요청;
+import static nextstep.subway.acceptance.PathSteps.지하철_대안_경로_조회_요청;
+import static nextstep.subway.acceptance.PathSteps.지하철_환승_경로_조회_요청;
+import static nextstep.subway.acceptance.PathSteps.지하철_경로_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 경로 검색")
+class PathAcceptanceTest extends AcceptanceTest {
+    private Long 교대역;
+    private Long 강남역;
+    private Long 양재역;
+    private Long 남부터미널역;
+
+    private Long 이호선;
+    private Long 신분당선;
+    private Long 삼호선;
+
+    /**
+     * 교대역    --- *2호선* ---   강남역
+     * |                        |
+     * *3호선*                   *신분당선*
+     * |                        |
+     * 남부터미널역  --- *3호선* ---   양재
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        교대역 = 지하철역_생성_요청("교대역").jsonPath().getLong("id");
+        강남역 = 지하철역_생성_요청("강남역").jsonPath().getLong("id");
+        양재역 = 지하철역_생성_요청("양재역").jsonPath().getLong("id");
+        남부터미널역 = 지하철역_생성_요청("남부터미널역").jsonPath().getLong("id");
+
+        이호선 = 지하철_노선_생성_요청(createLineCreateParams("2호선", "green", 교대역, 강남역, 10)).jsonPath().getLong("id");
+        신분당선 = 지하철_노선_생성_요청(createLineCreateParams("신분당선", "red", 강남역, 양재역, 10)).jsonPath().getLong("id");
+        삼호선 = 지하철_노선_생성_요청(createLineCreateParams("3호선", "orange", 교대역, 남부터미널역, 2)).jsonPath().getLong("id");
+
+        지하철_노선에_지하철_구간_생성_요청(삼호선, createSectionCreateParams(남부터미널역, 양재역, 3));
+    }
+
+    /**
+     * When 출발역에서 도착역까지의 최단 거리 경로 조회를 요청 하면
+     * Then 최단 거리 경로를 응답받는다
+     */
+    @DisplayName("두 역의 최단 거리 경로를 조회")
+    @Test
+    void findPathByDistance() {
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 양재역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(5);
+        assertThat(response.jsonPath().getInt("fare")).isEqualTo(1250);
+    }
+
+    /**
+     * Given 신분당선에 추가 요금을 설정하고
+     * When 신분당선을 지나는 경로 조회를 요청 하면
+     * Then 거리별 요금에 노선 추가 요금이 더해진 요금을 응답받는다
+     * When 청소년 나이로 같은 경로 조회를 요청 하면
+     * Then 할인된 요금을 응답받는다
+     */
+    @DisplayName("노선 추가 요금과 연령별 할인이 적용된 요금을 조회")
+    @Test
+    void findPathWithFare() {
+        // given
+        Map<String, String> params = new HashMap<>();
+        params.put("extraFare", "900");
+        지하철_노선_수정_요청(신분당선, params);
+
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(강남역, 양재역);
+
+        // then
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(강남역, 양재역);
+        assertThat(response.jsonPath().getInt("fare")).isEqualTo(2150);
+
+        // when
+        ExtractableResponse<Response> teenager = 지하철_경로_조회_요청(강남역, 양재역, 13);
+
+        // then
+        assertThat(teenager.jsonPath().getInt("fare")).isEqualTo(1790);
+    }
+
+    /**
+     * Given 경로 조회를 한 번 요청 하고
+     * When 지하철 노선에 더 짧은 구간을 추가한 뒤 다시 경로 조회를 요청 하면
+     * Then 추가된 구간이 반영된 최단 거리 경로를 응답받는다
+     */
+    @DisplayName("구간 추가 후 최단 거리 경로를 조회")
+    @Test
+    void findPathAfterAddSection() {
+        // given
+        지하철_경로_조회_요청(교대역, 양재역);
+
+        // when
+        Long 정자역 = 지하철역_생성_요청("정자역").jsonPath().getLong("id");
+        지하철_노선에_지하철_구간_생성_요청(신분당선, createSectionCreateParams(양재역, 정자역, 4));
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 정자역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(교대역, 남부터미널역, 양재역, 정자역);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(9);
+    }
+
+    /**
+     * When 두 역 사이의 최단 거리를 조회 하면
+     * Then 최단 거리를 응답받는다
+     * When 지하철 노선에 더 짧은 구간을 추가한 뒤 다시 조회 하면
+     * Then 추가된 구간이 반영된 최단 거리를 응답받는다
+     */
+    @DisplayName("두 역의 최단 거리를 조회")
+    @Test
+    void findDistance() {
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_거리_조회_요청(교대역, 양재역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(5);
+
+        // when
+        지하철_노선에_지하철_구간_생성_요청(이호선, createSectionCreateParams(강남역, 양재역, 1));
+        ExtractableResponse<Response> updated = 지하철_경로_거리_조회_요청(교대역, 양재역);
+
+        // then
+        assertThat(updated.jsonPath().getInt("distance")).isEqualTo(5);
+        assertThat(지하철_경로_거리_조회_요청(강남역, 양재역).jsonPath().getInt("distance")).isEqualTo(1);
+    }
+
+    /**
+     * When 두 역 사이의 대안 경로 조회를 요청 하면
+     * Then 거리가 짧은 순서대로 서로 다른 경로들을 응답받는다
+     */
+    @DisplayName("두 역의 대안 경로를 조회")
+    @Test
+    void findAlternativePaths() {
+        // when
+        ExtractableResponse<Response> response = 지하철_대안_경로_조회_요청(교대역, 양재역, 3);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("paths.distance", Integer.class)).containsExactly(5, 20);
+        assertThat(response.jsonPath().getList("paths[1].stations.id", Long.class)).containsExactly(교대역, 강남역, 양재역);
+        assertThat(response.jsonPath().getBoolean("complete")).isTrue();
+    }
+
+    /**
+     * When 환승이 가장 적은 경로 조회를 요청 하면
+     * Then 환승 횟수가 포함된 경로를 응답받는다
+     */
+    @DisplayName("두 역의 최소 환승 경로를 조회")
+    @Test
+    void findPathByFewestTransfers() {
+        // when
+        ExtractableResponse<Response> response = 지하철_환승_경로_조회_요청(강남역, 남부터미널역, "FEWEST_TRANSFERS");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getInt("transferCount")).isEqualTo(1);
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(강남역, 교대역, 남부터미널역);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(12);
+    }
+
+    /**
+     * When 여러 출발역과 도착역 쌍의 최단 거리를 한 번에 조회 하면
+     * Then 요청한 순서대로 각 쌍의 최단 거리를 한 줄씩 응답받는다
+     */
+    @DisplayName("여러 역 쌍의 최단 거리를 일괄 조회")
+    @Test
+    void findDistancesInBatch() {
+        // given
+        Long 판교역 = 지하철역_생성_요청("판교역").jsonPath().getLong("id");
+        String pairs = pairOf(교대역, 양재역) + pairOf(강남역, 남부터미널역) + pairOf(교대역, 판교역) + pairOf(교대역, 강남역);
+
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_거리_일괄_조회_요청(pairs);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        String[] lines = response.asString().split("\\n");
+        assertThat(lines).hasSize(4);
+        assertThat(new JsonPath(lines[0]).getInt("distance")).isEqualTo(5);
+        assertThat(new JsonPath(lines[0]).getInt("fare")).isEqualTo(1250);
+        assertThat(new JsonPath(lines[1]).getInt("distance")).isEqualTo(12);
+        assertThat(new JsonPath(lines[2]).getString("distance")).isNull();
+        assertThat(new JsonPath(lines[3]).getLong("target")).isEqualTo(강남역);
+        assertThat(new JsonPath(lines[3]).getInt("distance")).isEqualTo(10);
+    }
+
+    /**
+     * When 잘못된 쌍과 깨진 입력이 섞인 일괄 조회를 요청 하면
+     * Then 올바른 쌍은 최단 거리를, 잘못된 쌍과 깨진 입력은 오류를 한 줄씩 응답받는다
+     */
+    @DisplayName("잘못된 쌍이 섞인 일괄 조회")
+    @Test
+    void findDistancesInBatchWithInvalidPairs() {
+        // given
+        String pairs = pairOf(교대역, 양재역) + "{\"source\":" + 교대역 + "}\n" + pairOf(교대역, 강남역) + "{\"source\":";
+
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_거리_일괄_조회_요청(pairs);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        String[] lines = response.asString().split("\\n");
+        assertThat(lines).hasSize(4);
+        assertThat(new JsonPath(lines[0]).getInt("distance")).isEqualTo(5);
+        assertThat(new JsonPath(lines[1]).getString("error")).isNotNull();
+        assertThat(new JsonPath(lines[2]).getInt("distance")).isEqualTo(10);
+        assertThat(new JsonPath(lines[3]).getString("error")).isNotNull();
+    }
+
+    /**
+     * When 출발역과 도착역이 같은 경로 조회를 요청 하면
+     * Then 경로 조회에 실패한다
+     */
+    @DisplayName("출발역과 도착역이 같으면 경로를 조회할 수 없다")
+    @Test
+    void findPathWithSameStations() {
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 교대역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * Given 어느 노선에도 연결되지 않은 역을 생성하고
+     * When 그 역까지의 경로 조회를 요청 하면
+     * Then 경로 조회에 실패한다
+     */
+    @DisplayName("연결되지 않은 역으로는 경로를 조회할 수 없다")
+    @Test
+    void findPathToUnconnectedStation() {
+        // given
+        Long 판교역 = 지하철역_생성_요청("판교역").jsonPath().getLong("id");
+
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 판교역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private Map<String, String> createLineCreateParams(String name, String color, Long upStationId, Long downStationId, int distance) {
+        Map<String, String> params = new HashMap<>();
+        params.put("name", name);
+        params.put("color", color);
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", distance + "");
+        return params;
+    }
+
+    private String pairOf(Long source, Long target) {
+        return "{\"source\":" + source + ",\"target\":" + target + "}\n";
+    }
+
+    private Map<String, String> createSectionCreateParams(Long upStationId, Long downStationId, int distance) {
+        Map<String, String> params = new HashMap<>();
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", distance + "");
+        return params;
+    }
+}
@@ -0,0 +1,54 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+public class PathSteps {
+    public static ExtractableResponse<Response> 지하철_경로_조회_요청(Long source, Long target) {
+        return RestAssured
+                .given().log().all()
+                .when().get("/paths?source={source}&target={target}", source, target)
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_경로_조회_요청(Long source, Long target, int age) {
+        return RestAssured
+                .given().log().all()
+                .when().get("/paths?source={source}&target={target}&age={age}", source, target, age)
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_경로_거리_조회_요청(Long source, Long target) {
+        return RestAssured
+                .given().log().all()
+                .when().get("/paths/distance?source={source}&target={target}", source, target)
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_대안_경로_조회_요청(Long source, Long target, int k) {
+        return RestAssured
+                .given().log().all()
+                .when().get("/paths/alternatives?source={source}&target={target}&k={k}&maxDetourRatio=5", source, target, k)
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_환승_경로_조회_요청(Long source, Long target, String type) {
+        return RestAssured
+                .given().log().all()
+                .when().get("/paths?source={source}&target={target}&type={type}", source, target, type)
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_경로_거리_일괄_조회_요청(String pairs) {
+        return RestAssured
+                .given().log().all()
+                .body(pairs.getBytes(StandardCharsets.UTF_8))
+                .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                .when().post("/paths/batch")
+                .then().log().all().extract();
+    }
+}
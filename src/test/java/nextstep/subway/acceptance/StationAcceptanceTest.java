@@ -10,6 +10,8 @@ import org.springframework.http.HttpStatus;
 
 import java.util.List;
 
+import static nextstep.subway.acceptance.StationSteps.지하철역_검색_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_목록_페이지_조회_요청;
 import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -89,4 +91,82 @@ public class StationAcceptanceTest extends AcceptanceTest {
                         .extract().jsonPath().getList("name", String.class);
         assertThat(stationNames).doesNotContain("강남역");
     }
-}
\ No newline at end of file
+
+    /**
+     * Given 3개의 지하철역을 생성하고
+     * When 지하철역 목록을 2개씩 페이지로 조회하면
+     * Then 첫 페이지에서 2개의 역과 다음 커서를 응답 받는다
+     * When 다음 커서로 다시 조회하면
+     * Then 나머지 1개의 역을 응답 받고 다음 커서는 없다
+     */
+    @DisplayName("지하철역 목록을 페이지로 조회한다.")
+    @Test
+    void getStationsByCursor() {
+        // given
+        지하철역_생성_요청("강남역");
+        지하철역_생성_요청("역삼역");
+        지하철역_생성_요청("선릉역");
+
+        // when
+        ExtractableResponse<Response> first = 지하철역_목록_페이지_조회_요청(0L, 2);
+
+        // then
+        assertThat(first.jsonPath().getList("content.name", String.class)).containsExactly("강남역", "역삼역");
+        Long next = first.jsonPath().getLong("next");
+        assertThat(next).isNotNull();
+
+        // when
+        ExtractableResponse<Response> second = 지하철역_목록_페이지_조회_요청(next, 2);
+
+        // then
+        assertThat(second.jsonPath().getList("content.name", String.class)).containsExactly("선릉역");
+        assertThat(second.jsonPath().getString("next")).isNull();
+    }
+
+    /**
+     * When 허용 범위를 벗어난 크기로 지하철역 목록 페이지를 조회하면
+     * Then 조회에 실패한다
+     */
+    @DisplayName("잘못된 크기로 지하철역 목록 페이지를 조회한다.")
+    @Test
+    void getStationsByCursorWithInvalidSize() {
+        // when
+        ExtractableResponse<Response> response = 지하철역_목록_페이지_조회_요청(0L, 0);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * Given 3개의 지하철역을 생성하고
+     * When 이름의 앞부분이나 초성으로 지하철역을 검색하면
+     * Then 일치하는 지하철역을 응답 받는다
+     * When 검색된 지하철역을 삭제하고 다시 검색하면
+     * Then 삭제된 지하철역은 응답 받지 않는다
+     */
+    @DisplayName("지하철역을 이름으로 검색한다.")
+    @Test
+    void searchStations() {
+        // given
+        Long 강남역 = 지하철역_생성_요청("강남역").jsonPath().getLong("id");
+        지하철역_생성_요청("강변역");
+        지하철역_생성_요청("역삼역");
+
+        // when
+        ExtractableResponse<Response> byPrefix = 지하철역_검색_요청("강");
+        ExtractableResponse<Response> byChoseong = 지하철역_검색_요청("ㅇㅅ");
+
+        // then
+        assertThat(byPrefix.jsonPath().getList("name", String.class)).containsExactly("강남역", "강변역");
+        assertThat(byChoseong.jsonPath().getList("name", String.class)).containsExactly("역삼역");
+
+        // when
+        RestAssured.given().log().all()
+                .when().delete("/stations/{id}", 강남역)
+                .then().log().all();
+        ExtractableResponse<Response> afterDelete = 지하철역_검색_요청("강");
+
+        // then
+        assertThat(afterDelete.jsonPath().getList("name", String.class)).containsExactly("강변역");
+    }
+}
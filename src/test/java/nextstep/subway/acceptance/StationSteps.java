@@ -20,4 +20,23 @@ public class StationSteps {
                 .then().log().all()
                 .extract();
     }
+
+    public static ExtractableResponse<Response> 지하철역_목록_페이지_조회_요청(Long after, int size) {
+        return RestAssured.given().log().all()
+                .queryParam("after", after)
+                .queryParam("size", size)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철역_검색_요청(String prefix) {
+        return RestAssured.given().log().all()
+                .queryParam("prefix", prefix)
+                .when()
+                .get("/stations/search")
+                .then().log().all()
+                .extract();
+    }
 }
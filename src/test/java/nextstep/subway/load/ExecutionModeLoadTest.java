@@ -0,0 +1,190 @@
+package nextstep.subway.load;
+
+import nextstep.subway.SubwayApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 실행 모드별 처리량과 p99 지연 시간을 비교하는 부하 테스트
+ * ./gradlew loadTest 로 실행하며 일반 테스트에서는 제외된다.
+ */
+@Tag("load")
+class ExecutionModeLoadTest {
+    private static final int CLIENTS = Integer.getInteger("load.clients", 200);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 5L));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("load.measurement-seconds", 20L));
+    private static final int STATION_COUNT = 50;
+    private static final int LINE_COUNT = 10;
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(5)).build();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"PLATFORM", "VIRTUAL"})
+    void compareExecutionModes(String mode) throws Exception {
+        assumeTrue(!"VIRTUAL".equals(mode) || Runtime.version().feature() >= 21, "virtual threads require Java 21");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SubwayApplication.class)
+                .properties("server.port=0",
+                        "subway.execution.mode=" + mode,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode.toLowerCase(),
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "logging.level.root=WARN")
+                .run()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            long[] stationIds = seed(baseUrl);
+
+            run(baseUrl, stationIds, WARMUP);
+            Result result = run(baseUrl, stationIds, MEASUREMENT);
+
+            System.out.printf("[%s] clients=%d requests=%d errors=%d throughput=%.1f req/s p50=%.2f ms p99=%.2f ms%n",
+                    mode, CLIENTS, result.count(), result.errors, result.throughput(MEASUREMENT),
+                    result.percentile(0.50), result.percentile(0.99));
+            assertThat(result.errors).isZero();
+        }
+    }
+
+    private long[] seed(String baseUrl) throws Exception {
+        long[] stationIds = new long[STATION_COUNT];
+        for (int i = 0; i < STATION_COUNT; i++) {
+            stationIds[i] = idOf(post(baseUrl + "/stations", "{\"name\":\"역" + i + "\"}"));
+        }
+
+        Random random = new Random(1L);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            long lineId = idOf(post(baseUrl + "/lines", String.format("{\"name\":\"%d호선\",\"color\":\"c%d\",\"upStationId\":%d,\"downStationId\":%d,\"distance\":10}",
+                    i, i, stationIds[i], stationIds[i + LINE_COUNT])));
+            long downStationId = stationIds[i + LINE_COUNT];
+            for (int j = 0; j < 3; j++) {
+                long nextStationId = stationIds[2 * LINE_COUNT + random.nextInt(STATION_COUNT - 2 * LINE_COUNT)];
+                post(baseUrl + "/lines/" + lineId + "/sections", String.format("{\"upStationId\":%d,\"downStationId\":%d,\"distance\":%d}",
+                        downStationId, nextStationId, 1 + random.nextInt(10)));
+                downStationId = nextStationId;
+            }
+        }
+        return stationIds;
+    }
+
+    private Result run(String baseUrl, long[] stationIds, Duration duration) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Result>> futures = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            long seed = i;
+            futures.add(clients.submit(() -> runClient(baseUrl, stationIds, deadline, new Random(seed))));
+        }
+
+        Result total = new Result();
+        for (Future<Result> future : futures) {
+            total.merge(future.get());
+        }
+        clients.shutdown();
+        clients.awaitTermination(1, TimeUnit.MINUTES);
+        return total;
+    }
+
+    private Result runClient(String baseUrl, long[] stationIds, long deadline, Random random) {
+        Result result = new Result();
+        while (System.nanoTime() < deadline) {
+            String uri;
+            switch (random.nextInt(3)) {
+                case 0:
+                    uri = baseUrl + "/stations?size=20&after=" + stationIds[random.nextInt(stationIds.length)];
+                    break;
+                case 1:
+                    uri = baseUrl + "/lines?size=5&after=0";
+                    break;
+                default:
+                    uri = baseUrl + "/paths/distance?source=" + stationIds[random.nextInt(LINE_COUNT)]
+                            + "&target=" + stationIds[LINE_COUNT + random.nextInt(LINE_COUNT)];
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(uri)).GET().build(), HttpResponse.BodyHandlers.discarding());
+                result.record(System.nanoTime() - startedAt, response.statusCode() >= 500);
+            } catch (Exception e) {
+                result.record(System.nanoTime() - startedAt, true);
+            }
+        }
+        return result;
+    }
+
+    private String post(String uri, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    private long idOf(String body) {
+        Matcher matcher = ID.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException(body);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static class Result {
+        private long[] latencies = new long[1024];
+        private int size;
+        private int errors;
+
+        private void record(long latency, boolean error) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latency;
+            if (error) {
+                errors++;
+            }
+        }
+
+        private void merge(Result other) {
+            for (int i = 0; i < other.size; i++) {
+                record(other.latencies[i], false);
+            }
+            errors += other.errors;
+        }
+
+        private int count() {
+            return size;
+        }
+
+        private double throughput(Duration duration) {
+            return size / (duration.toMillis() / 1000.0);
+        }
+
+        private double percentile(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.min(size - 1, Math.ceil(percentile * size) - 1)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.BatchDistances;
+import nextstep.subway.domain.CsrGraph;
+import nextstep.subway.domain.SearchState;
+import nextstep.subway.domain.SubwayNetwork;
+import nextstep.subway.utils.RandomNetwork;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchDistancesTest {
+    private static final int STATION_COUNT = 200;
+    private static final int PAIR_COUNT = 5_000;
+
+    @Test
+    void sameDistancesAsSinglePairSearch() {
+        SubwayNetwork network = RandomNetwork.create(17L, STATION_COUNT, 12, 30);
+        CsrGraph graph = new CsrGraph(network);
+        BatchDistances batchDistances = new BatchDistances(graph);
+
+        Random random = new Random(5L);
+        long[] sources = new long[PAIR_COUNT];
+        long[] targets = new long[PAIR_COUNT];
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            sources[i] = 1L + random.nextInt(STATION_COUNT / 10);
+            do {
+                targets[i] = 1L + random.nextInt(STATION_COUNT + 10);
+            } while (targets[i] == sources[i]);
+        }
+
+        int[] distances = batchDistances.findDistances(sources, targets, PAIR_COUNT, ForkJoinPool.commonPool());
+
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            assertThat(distances[i]).isEqualTo(distanceOf(graph, sources[i], targets[i]));
+        }
+    }
+
+    private int distanceOf(CsrGraph graph, long source, long target) {
+        try {
+            return graph.findPath(source, target).getDistance();
+        } catch (IllegalArgumentException e) {
+            return SearchState.UNREACHABLE;
+        }
+    }
+}
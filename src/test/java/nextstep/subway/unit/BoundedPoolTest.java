@@ -0,0 +1,37 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.BoundedPool;
+import nextstep.subway.domain.SearchState;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedPoolTest {
+    @Test
+    void reuseReleasedItem() {
+        BoundedPool<SearchState> pool = new BoundedPool<>(SearchState::new, 2);
+        SearchState state = pool.acquire();
+
+        pool.release(state);
+
+        assertThat(pool.acquire()).isSameAs(state);
+        assertThat(pool.getIdleCount()).isZero();
+    }
+
+    @Test
+    void dropItemsBeyondCapacity() {
+        BoundedPool<SearchState> pool = new BoundedPool<>(SearchState::new, 2);
+        SearchState first = pool.acquire();
+        SearchState second = pool.acquire();
+        SearchState third = pool.acquire();
+
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+
+        assertThat(pool.getIdleCount()).isEqualTo(2);
+        assertThat(pool.acquire()).isSameAs(first);
+        assertThat(pool.acquire()).isSameAs(second);
+        assertThat(pool.acquire()).isNotSameAs(third);
+    }
+}
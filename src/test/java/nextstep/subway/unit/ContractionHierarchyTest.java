@@ -0,0 +1,111 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.ContractionHierarchy;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.NetworkSection;
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.SubwayNetwork;
+import nextstep.subway.utils.RandomNetwork;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.WeightedMultigraph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static nextstep.subway.utils.LineFixture.line;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContractionHierarchyTest {
+    private static final int STATION_COUNT = 120;
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 7L, 42L})
+    void sameResultAsDijkstraForEveryPair(long seed) {
+        SubwayNetwork network = RandomNetwork.create(seed, STATION_COUNT, 8, 25);
+        ContractionHierarchy hierarchy = new ContractionHierarchy(network);
+        WeightedMultigraph<Long, DefaultWeightedEdge> graph = toGraph(network);
+        DijkstraShortestPath<Long, DefaultWeightedEdge> dijkstra = new DijkstraShortestPath<>(graph);
+        Map<String, Integer> sectionDistances = sectionDistances(network);
+
+        for (long source = 1L; source <= STATION_COUNT; source++) {
+            for (long target = 1L; target <= STATION_COUNT; target++) {
+                if (source == target) {
+                    continue;
+                }
+                GraphPath<Long, DefaultWeightedEdge> expected = graph.containsVertex(source) && graph.containsVertex(target)
+                        ? dijkstra.getPath(source, target) : null;
+                if (expected == null) {
+                    long unreachableSource = source;
+                    long unreachableTarget = target;
+                    assertThatThrownBy(() -> hierarchy.findPath(unreachableSource, unreachableTarget))
+                            .isInstanceOf(IllegalArgumentException.class);
+                    continue;
+                }
+
+                Path actual = hierarchy.findPath(source, target);
+                assertThat(actual.getDistance()).isEqualTo((int) expected.getWeight());
+                assertThat(lengthOf(actual.getStations(), sectionDistances)).isEqualTo(actual.getDistance());
+                assertThat(actual.getStations().get(0).getId()).isEqualTo(source);
+                assertThat(actual.getStations().get(actual.getStations().size() - 1).getId()).isEqualTo(target);
+            }
+        }
+    }
+
+    @Test
+    void findPathOnCheapestLineAmongEqualSections() {
+        Station 강남역 = new Station(1L, "강남역");
+        Station 양재역 = new Station(2L, "양재역");
+        Line 신분당선 = line(1L, 강남역, 양재역, 10);
+        신분당선.setExtraFare(900);
+        Line 이호선 = line(2L, 강남역, 양재역, 10);
+        Line 삼호선 = line(3L, 강남역, 양재역, 10);
+        삼호선.setExtraFare(500);
+
+        for (List<Line> lines : List.of(List.of(신분당선, 이호선, 삼호선), List.of(이호선, 삼호선, 신분당선))) {
+            ContractionHierarchy hierarchy = new ContractionHierarchy(SubwayNetwork.of(1L, lines));
+
+            assertThat(hierarchy.findPath(1L, 2L).getLineIds()).containsExactly(2L);
+        }
+    }
+
+    private WeightedMultigraph<Long, DefaultWeightedEdge> toGraph(SubwayNetwork network) {
+        WeightedMultigraph<Long, DefaultWeightedEdge> graph = new WeightedMultigraph<>(DefaultWeightedEdge.class);
+        for (NetworkSection section : network.getSections()) {
+            graph.addVertex(section.getUpStation().getId());
+            graph.addVertex(section.getDownStation().getId());
+            DefaultWeightedEdge edge = graph.addEdge(section.getUpStation().getId(), section.getDownStation().getId());
+            graph.setEdgeWeight(edge, section.getDistance());
+        }
+        return graph;
+    }
+
+    private Map<String, Integer> sectionDistances(SubwayNetwork network) {
+        Map<String, Integer> distances = new HashMap<>();
+        for (NetworkSection section : network.getSections()) {
+            distances.merge(keyOf(section.getUpStation().getId(), section.getDownStation().getId()), section.getDistance(), Math::min);
+        }
+        return distances;
+    }
+
+    private int lengthOf(List<Station> stations, Map<String, Integer> sectionDistances) {
+        int length = 0;
+        for (int i = 1; i < stations.size(); i++) {
+            Integer distance = sectionDistances.get(keyOf(stations.get(i - 1).getId(), stations.get(i).getId()));
+            assertThat(distance).isNotNull();
+            length += distance;
+        }
+        return length;
+    }
+
+    private String keyOf(Long station, Long other) {
+        return Math.min(station, other) + "-" + Math.max(station, other);
+    }
+}
@@ -0,0 +1,17 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.CsrGraph;
+import nextstep.subway.utils.NetworkFixture;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsrGraphTest {
+    @Test
+    void countStationsAndArcs() {
+        CsrGraph graph = new CsrGraph(NetworkFixture.network());
+
+        assertThat(graph.getStationCount()).isEqualTo(6);
+        assertThat(graph.getArcCount()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,107 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.applicaion.DistanceMatrixService;
+import nextstep.subway.applicaion.DistanceMatrixStore;
+import nextstep.subway.applicaion.NetworkService;
+import nextstep.subway.domain.CompiledNetwork;
+import nextstep.subway.domain.DistanceMatrix;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.PathStrategy;
+import nextstep.subway.domain.SubwayNetwork;
+import nextstep.subway.utils.RandomNetwork;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DistanceMatrixTest {
+    private static final int STATION_COUNT = 150;
+
+    @Test
+    void sameDistanceAsDijkstra() {
+        SubwayNetwork network = RandomNetwork.create(9L, STATION_COUNT, 10, 25);
+        DistanceMatrix matrix = DistanceMatrix.compute(network, ForkJoinPool.commonPool());
+        PathFinder expected = PathStrategy.JGRAPHT.create(network);
+
+        for (long source = 1L; source <= STATION_COUNT; source++) {
+            for (long target = 1L; target <= STATION_COUNT; target++) {
+                assertThat(distanceOf(matrix, source, target)).isEqualTo(distanceOf(expected, source, target));
+            }
+        }
+    }
+
+    @Test
+    void saveAndLoad(@TempDir Path directory) {
+        SubwayNetwork network = RandomNetwork.create(9L, STATION_COUNT, 10, 25);
+        DistanceMatrix matrix = DistanceMatrix.compute(network, ForkJoinPool.commonPool());
+        DistanceMatrixStore store = new DistanceMatrixStore(directory);
+
+        store.save(matrix);
+        Optional<DistanceMatrix> loaded = store.load(network.getDigest(), matrix.getStationIds(), 7L);
+
+        assertThat(loaded).isPresent();
+        assertThat(loaded.get().getVersion()).isEqualTo(7L);
+        assertThat(loaded.get().getStationIds()).containsExactly(matrix.getStationIds());
+        assertThat(loaded.get().getDistances()).isEqualTo(matrix.getDistances());
+    }
+
+    @Test
+    void loadWithDifferentNetwork(@TempDir Path directory) {
+        SubwayNetwork network = RandomNetwork.create(9L, STATION_COUNT, 10, 25);
+        DistanceMatrix matrix = DistanceMatrix.compute(network, ForkJoinPool.commonPool());
+        DistanceMatrixStore store = new DistanceMatrixStore(directory);
+        long[] otherStationIds = matrix.getStationIds();
+        otherStationIds[0] = STATION_COUNT + 1L;
+
+        store.save(matrix);
+
+        assertThat(store.load(RandomNetwork.create(10L, STATION_COUNT, 10, 25).getDigest(), matrix.getStationIds(), 7L)).isEmpty();
+        assertThat(store.load(network.getDigest(), otherStationIds, 7L)).isEmpty();
+    }
+
+    @Test
+    void buildInBackgroundWhenSaveFails(@TempDir Path directory) throws IOException {
+        SubwayNetwork network = RandomNetwork.create(9L, 20, 2, 10);
+        NetworkService networkService = mock(NetworkService.class);
+        when(networkService.getCompiledNetwork()).thenReturn(new CompiledNetwork(network));
+        Path file = Files.createFile(directory.resolve("file"));
+        DistanceMatrixService service = new DistanceMatrixService(networkService, new SyncTaskExecutor(), true, 2000, file.toString());
+
+        assertThat(service.getMatrix()).isNull();
+        assertThat(service.getMatrix()).isNotNull();
+        assertThat(service.getMatrix().getVersion()).isEqualTo(network.getVersion());
+    }
+
+    @Test
+    void unknownStation() {
+        DistanceMatrix matrix = DistanceMatrix.compute(RandomNetwork.create(9L, 20, 2, 10), ForkJoinPool.commonPool());
+
+        assertThatThrownBy(() -> matrix.findDistance(1L, 999L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Integer distanceOf(DistanceMatrix matrix, Long source, Long target) {
+        try {
+            return matrix.findDistance(source, target);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Integer distanceOf(PathFinder pathFinder, Long source, Long target) {
+        try {
+            return pathFinder.findPath(source, target).getDistance();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.BatchDistances;
+import nextstep.subway.domain.CsrGraph;
+import nextstep.subway.domain.FareDiscount;
+import nextstep.subway.domain.FareTable;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.SearchState;
+import nextstep.subway.domain.SubwayNetwork;
+import nextstep.subway.domain.TransferAwarePathFinder;
+import nextstep.subway.domain.TransferPath;
+import nextstep.subway.domain.TransferPriority;
+import nextstep.subway.utils.NetworkFixture;
+import nextstep.subway.utils.RandomNetwork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static nextstep.subway.utils.LineFixture.line;
+import static nextstep.subway.utils.NetworkFixture.강남역;
+import static nextstep.subway.utils.NetworkFixture.교대역;
+import static nextstep.subway.utils.NetworkFixture.양재역;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FareTableTest {
+    private CsrGraph graph;
+    private FareTable fareTable;
+
+    @BeforeEach
+    void setUp() {
+        graph = new CsrGraph(NetworkFixture.network());
+        fareTable = new FareTable(graph);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"5, 1250", "10, 1250", "11, 1350", "15, 1350", "16, 1450", "50, 2050", "51, 2150", "58, 2150", "59, 2250", "100000, 1251450"})
+    void findFareByDistance(int distance, int fare) {
+        assertThat(fareTable.findFare(distance, 0, FareDiscount.NONE)).isEqualTo(fare);
+    }
+
+    @Test
+    void findFareWithExtraFareOfLine() {
+        Path path = graph.findPath(강남역.getId(), 양재역.getId());
+
+        assertThat(fareTable.findFare(path, FareDiscount.NONE)).isEqualTo(2150);
+    }
+
+    @Test
+    void findFareWithoutExtraFareOfUnusedLine() {
+        Path path = graph.findPath(교대역.getId(), 양재역.getId());
+
+        assertThat(fareTable.findFare(path, FareDiscount.NONE)).isEqualTo(1250);
+    }
+
+    @Test
+    void findFareWithExtraFareOfLineRidden() {
+        Line 이호선 = line(2L, 교대역, 강남역, 10);
+        이호선.addSection(강남역, 양재역, 12);
+        Line 신분당선 = line(4L, 강남역, 양재역, 10);
+        신분당선.setExtraFare(900);
+        SubwayNetwork network = SubwayNetwork.of(1L, List.of(이호선, 신분당선));
+
+        TransferPath path = new TransferAwarePathFinder(new CsrGraph(network))
+                .findPath(교대역.getId(), 양재역.getId(), TransferPriority.FEWEST_TRANSFERS, 5);
+
+        assertThat(path.getLineIds()).containsExactly(2L, 2L);
+        assertThat(new FareTable(new CsrGraph(network)).findFare(path, FareDiscount.NONE)).isEqualTo(1550);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 0", "5, 0", "6, 1250", "12, 1250", "13, 1790", "18, 1790", "19, 2150"})
+    void findFareWithAgeDiscount(int age, int fare) {
+        Path path = graph.findPath(강남역.getId(), 양재역.getId());
+
+        assertThat(fareTable.findFare(path, FareDiscount.of(age))).isEqualTo(fare);
+    }
+
+    @Test
+    void negativeAge() {
+        assertThatThrownBy(() -> FareDiscount.of(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sameFaresInBatch() {
+        Random random = new Random(11L);
+        SubwayNetwork network = RandomNetwork.create(23L, 150, 10, 25);
+        for (long lineId = 1L; lineId <= 10; lineId++) {
+            network = network.changeExtraFare(lineId, random.nextInt(10) * 100);
+        }
+        CsrGraph graph = new CsrGraph(network);
+        FareTable fareTable = new FareTable(graph);
+
+        int count = 2_000;
+        long[] sources = new long[count];
+        long[] targets = new long[count];
+        for (int i = 0; i < count; i++) {
+            sources[i] = 1L + random.nextInt(15);
+            do {
+                targets[i] = 1L + random.nextInt(150);
+            } while (targets[i] == sources[i]);
+        }
+
+        int[] extraFares = new int[count];
+        int[] distances = new BatchDistances(graph).findDistances(sources, targets, count, extraFares, ForkJoinPool.commonPool());
+
+        for (int i = 0; i < count; i++) {
+            if (distances[i] == SearchState.UNREACHABLE) {
+                continue;
+            }
+            Path path = graph.findPath(sources[i], targets[i]);
+            assertThat(fareTable.findFare(distances[i], extraFares[i], FareDiscount.NONE))
+                    .isEqualTo(fareTable.findFare(path, FareDiscount.NONE));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package nextstep.subway.unit;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import nextstep.subway.applicaion.LineResponseCache;
+import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.StationService;
+import nextstep.subway.applicaion.dto.LineRequest;
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.SectionRequest;
+import nextstep.subway.applicaion.dto.StationRequest;
+import nextstep.subway.utils.DatabaseCleanup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class LineCacheTest {
+    @Autowired
+    private LineService lineService;
+    @Autowired
+    private StationService stationService;
+    @Autowired
+    private LineResponseCache lineResponseCache;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    private Long 강남역;
+    private Long 양재역;
+    private Long 신분당선;
+    private Long 이호선;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanup.execute();
+
+        강남역 = stationService.saveStation(stationRequest("강남역")).getId();
+        양재역 = stationService.saveStation(stationRequest("양재역")).getId();
+        신분당선 = lineService.saveLine(lineRequest("신분당선", 강남역, 양재역)).getId();
+        이호선 = lineService.saveLine(lineRequest("2호선", null, null)).getId();
+    }
+
+    @Test
+    void findByIdFromCache() {
+        lineService.findById(신분당선);
+        long hits = statsOf(LineService.LINE_CACHE).hitCount();
+
+        LineResponse response = lineService.findById(신분당선);
+
+        assertThat(statsOf(LineService.LINE_CACHE).hitCount()).isEqualTo(hits + 1);
+        assertThat(response.getStations()).extracting("id").containsExactly(강남역, 양재역);
+    }
+
+    @Test
+    void evictOnlyChangedLine() {
+        lineService.findById(신분당선);
+        lineService.findById(이호선);
+        lineService.showLines();
+
+        Long 정자역 = stationService.saveStation(stationRequest("정자역")).getId();
+        lineService.addSection(신분당선, sectionRequest(양재역, 정자역));
+
+        assertThat(cacheManager.getCache(LineService.LINE_CACHE).get(신분당선)).isNull();
+        assertThat(cacheManager.getCache(LineService.LINE_CACHE).get(이호선)).isNotNull();
+        assertThat(lineService.findById(신분당선).getStations()).extracting("id").containsExactly(강남역, 양재역, 정자역);
+        assertThat(lineService.showLines()).hasSize(2);
+    }
+
+    @Test
+    void evictOnUpdateLine() {
+        lineService.findById(이호선);
+
+        LineRequest request = new LineRequest();
+        ReflectionTestUtils.setField(request, "color", "green");
+        lineService.updateLine(이호선, request);
+
+        assertThat(lineService.findById(이호선).getColor()).isEqualTo("green");
+    }
+
+    @Test
+    void dropLoadStartedBeforeCommit() throws Exception {
+        // given
+        LineResponse stale = lineService.findById(이호선);
+        cacheManager.getCache(LineService.LINE_CACHE).evict(이호선);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<LineResponse> read = executor.submit(() -> lineResponseCache.getLine(이호선, () -> {
+            loading.countDown();
+            await(committed);
+            return stale;
+        }));
+
+        // when
+        loading.await();
+        LineRequest request = new LineRequest();
+        ReflectionTestUtils.setField(request, "color", "green");
+        lineService.updateLine(이호선, request);
+        committed.countDown();
+        read.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(cacheManager.getCache(LineService.LINE_CACHE).get(이호선)).isNull();
+        assertThat(lineService.findById(이호선).getColor()).isEqualTo("green");
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CacheStats statsOf(String cacheName) {
+        return ((com.github.benmanes.caffeine.cache.Cache<?, ?>) cacheManager.getCache(cacheName).getNativeCache()).stats();
+    }
+
+    private StationRequest stationRequest(String name) {
+        StationRequest request = new StationRequest();
+        ReflectionTestUtils.setField(request, "name", name);
+        return request;
+    }
+
+    private LineRequest lineRequest(String name, Long upStationId, Long downStationId) {
+        LineRequest request = new LineRequest();
+        ReflectionTestUtils.setField(request, "name", name);
+        ReflectionTestUtils.setField(request, "color", "bg-red-600");
+        ReflectionTestUtils.setField(request, "upStationId", upStationId);
+        ReflectionTestUtils.setField(request, "downStationId", downStationId);
+        ReflectionTestUtils.setField(request, "distance", 10);
+        return request;
+    }
+
+    private SectionRequest sectionRequest(Long upStationId, Long downStationId) {
+        SectionRequest request = new SectionRequest();
+        ReflectionTestUtils.setField(request, "upStationId", upStationId);
+        ReflectionTestUtils.setField(request, "downStationId", downStationId);
+        ReflectionTestUtils.setField(request, "distance", 5);
+        return request;
+    }
+}
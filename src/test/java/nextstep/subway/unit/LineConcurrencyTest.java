@@ -0,0 +1,126 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.dto.SectionRequest;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.utils.DatabaseCleanup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "subway.line.section-edit.max-attempts=50")
+class LineConcurrencyTest {
+    private static final int LINE_COUNT = 4;
+    private static final int THREAD_COUNT = 16;
+    private static final int EDITS_PER_THREAD = 12;
+    private static final int LINE_DISTANCE = 1_000_000;
+
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private LineRepository lineRepository;
+    @Autowired
+    private LineService lineService;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanup.execute();
+    }
+
+    @Test
+    void concurrentSectionEdits() throws InterruptedException {
+        // given
+        List<Line> lines = new ArrayList<>();
+        List<Station> firstStations = new ArrayList<>();
+        for (int i = 0; i < LINE_COUNT; i++) {
+            Station first = stationRepository.save(new Station("상행종점" + i));
+            Station last = stationRepository.save(new Station("하행종점" + i));
+            Line line = lineRepository.save(new Line(i + "호선", "color" + i));
+            lineService.addSection(line.getId(), new SectionRequest(first.getId(), last.getId(), LINE_DISTANCE));
+            lines.add(line);
+            firstStations.add(first);
+        }
+
+        Map<Long, AtomicInteger> sectionCounts = new ConcurrentHashMap<>();
+        lines.forEach(it -> sectionCounts.put(it.getId(), new AtomicInteger(1)));
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        // when
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            int thread = t;
+            Long lineId = lines.get(thread % LINE_COUNT).getId();
+            Long firstStationId = firstStations.get(thread % LINE_COUNT).getId();
+            executor.execute(() -> {
+                Random random = new Random(thread);
+                List<Long> added = new ArrayList<>();
+                try {
+                    start.await();
+                    for (int i = 0; i < EDITS_PER_THREAD; i++) {
+                        if (i % 3 == 2 && !added.isEmpty()) {
+                            Long stationId = added.remove(added.size() - 1);
+                            edit(() -> lineService.deleteSection(lineId, stationId), sectionCounts.get(lineId), -1, unexpected);
+                            continue;
+                        }
+                        Long stationId = stationRepository.save(new Station("역" + thread + "-" + i)).getId();
+                        SectionRequest request = new SectionRequest(firstStationId, stationId, 1 + random.nextInt(LINE_DISTANCE / 100));
+                        if (edit(() -> lineService.addSection(lineId, request), sectionCounts.get(lineId), 1, unexpected)) {
+                            added.add(stationId);
+                        }
+                    }
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        // then
+        assertThat(unexpected).isEmpty();
+        for (Line line : lineRepository.findAll()) {
+            List<Section> sections = line.getSections();
+            assertThat(sections).hasSize(sectionCounts.get(line.getId()).get());
+            assertThat(line.getStations()).doesNotHaveDuplicates().hasSize(sections.size() + 1);
+            assertThat(sections.stream().mapToInt(Section::getDistance).sum()).isEqualTo(LINE_DISTANCE);
+        }
+    }
+
+    private boolean edit(Runnable edit, AtomicInteger sectionCount, int delta, List<Throwable> unexpected) {
+        try {
+            edit.run();
+            sectionCount.addAndGet(delta);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        } catch (RuntimeException e) {
+            unexpected.add(e);
+            return false;
+        }
+    }
+}
@@ -1,13 +1,29 @@
 package nextstep.subway.unit;
 
 import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.dto.SectionRequest;
+import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Station;
 import nextstep.subway.domain.StationRepository;
+import nextstep.subway.utils.DatabaseCleanup;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
 @SpringBootTest
 @Transactional
 public class LineServiceTest {
@@ -15,6 +31,12 @@ public class LineServiceTest {
     private StationRepository stationRepository;
     @Autowired
     private LineRepository lineRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
 
     @Autowired
     private LineService lineService;
@@ -22,12 +44,77 @@ public class LineServiceTest {
     @Test
     void addSection() {
         // given
-        // stationRepository와 lineRepository를 활용하여 초기값 셋팅
+        Station 강남역 = stationRepository.save(new Station("강남역"));
+        Station 역삼역 = stationRepository.save(new Station("역삼역"));
+        Station 선릉역 = stationRepository.save(new Station("선릉역"));
+        Line line = lineRepository.save(new Line("2호선", "green"));
+        line.addSection(강남역, 역삼역, 10);
 
         // when
-        // lineService.addSection 호출
+        lineService.addSection(line.getId(), new SectionRequest(역삼역.getId(), 선릉역.getId(), 5));
 
         // then
-        // line.getSections 메서드를 통해 검증
+        entityManager.flush();
+        entityManager.clear();
+        Line saved = lineRepository.findById(line.getId()).orElseThrow();
+        assertThat(saved.getSections()).hasSize(2);
+        assertThat(saved.getStations()).extracting(Station::getName).containsExactly("강남역", "역삼역", "선릉역");
+    }
+
+    @Test
+    void showLinesWithSingleQuery() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            Station upStation = stationRepository.save(new Station("상행역" + i));
+            Station middleStation = stationRepository.save(new Station("중간역" + i));
+            Station downStation = stationRepository.save(new Station("하행역" + i));
+            Line line = lineRepository.save(new Line(i + "호선", "color" + i));
+            line.addSection(upStation, middleStation, 10);
+            line.addSection(middleStation, downStation, 10);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        cacheManager.getCache(LineService.LINES_CACHE).clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        lineService.showLines();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void addSectionsWithSingleStationQuery() {
+        // given
+        List<Station> stations = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            stations.add(stationRepository.save(new Station("역" + i)));
+        }
+        Line line = lineRepository.save(new Line("2호선", "green"));
+        lineService.addSection(line.getId(), new SectionRequest(stations.get(0).getId(), stations.get(1).getId(), 10));
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            for (int i = 1; i < 5; i++) {
+                statistics.clear();
+
+                // when
+                lineService.addSection(line.getId(), new SectionRequest(stations.get(i).getId(), stations.get(i + 1).getId(), 10));
+
+                // then: stations, line, sections, section insert, line update and forced version
+                assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+            }
+            assertThat(lineService.findById(line.getId()).getStations()).hasSize(6);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+            databaseCleanup.execute();
+        }
     }
 }
@@ -1,17 +1,140 @@
 package nextstep.subway.unit;
 
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 class LineTest {
+    private Station 강남역;
+    private Station 양재역;
+    private Station 정자역;
+    private Station 판교역;
+
+    private Line 신분당선;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station(1L, "강남역");
+        양재역 = new Station(2L, "양재역");
+        정자역 = new Station(3L, "정자역");
+        판교역 = new Station(4L, "판교역");
+
+        신분당선 = new Line("신분당선", "red");
+        신분당선.addSection(강남역, 양재역, 10);
+    }
+
     @Test
     void addSection() {
+        신분당선.addSection(양재역, 정자역, 5);
+
+        assertThat(신분당선.getStations()).containsExactly(강남역, 양재역, 정자역);
+    }
+
+    @Test
+    void addSectionInFront() {
+        신분당선.addSection(정자역, 강남역, 5);
+
+        assertThat(신분당선.getStations()).containsExactly(정자역, 강남역, 양재역);
+    }
+
+    @Test
+    void addSectionInMiddleFromUpStation() {
+        신분당선.addSection(강남역, 정자역, 4);
+
+        assertThat(신분당선.getStations()).containsExactly(강남역, 정자역, 양재역);
+        assertThat(신분당선.getSections()).extracting(Section::getDistance).containsExactly(4, 6);
+    }
+
+    @Test
+    void addSectionInMiddleFromDownStation() {
+        신분당선.addSection(정자역, 양재역, 3);
+
+        assertThat(신분당선.getStations()).containsExactly(강남역, 정자역, 양재역);
+        assertThat(신분당선.getSections()).extracting(Section::getDistance).containsExactly(7, 3);
+    }
+
+    @Test
+    void addSectionInMiddleWithTooLongDistance() {
+        assertThatThrownBy(() -> 신분당선.addSection(강남역, 정자역, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void addSectionAfterTooLongDistance() {
+        assertThatThrownBy(() -> 신분당선.addSection(강남역, 정자역, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> 신분당선.addSection(판교역, 양재역, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        신분당선.addSection(양재역, 정자역, 5);
+
+        assertThat(신분당선.getStations()).containsExactly(강남역, 양재역, 정자역);
+    }
+
+    @Test
+    void addSectionWithRegisteredStations() {
+        assertThatThrownBy(() -> 신분당선.addSection(강남역, 양재역, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void addSectionWithUnknownStations() {
+        assertThatThrownBy(() -> 신분당선.addSection(정자역, 판교역, 3))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
     void getStations() {
+        신분당선.addSection(양재역, 정자역, 5);
+        신분당선.addSection(강남역, 판교역, 2);
+
+        assertThat(신분당선.getStations()).containsExactly(강남역, 판교역, 양재역, 정자역);
     }
 
     @Test
     void removeSection() {
+        신분당선.addSection(양재역, 정자역, 5);
+
+        신분당선.removeSection(정자역);
+
+        assertThat(신분당선.getStations()).containsExactly(강남역, 양재역);
+    }
+
+    @Test
+    void removeFirstStation() {
+        신분당선.addSection(양재역, 정자역, 5);
+
+        신분당선.removeSection(강남역);
+
+        assertThat(신분당선.getStations()).containsExactly(양재역, 정자역);
+    }
+
+    @Test
+    void removeMiddleStation() {
+        신분당선.addSection(양재역, 정자역, 5);
+
+        신분당선.removeSection(양재역);
+
+        assertThat(신분당선.getStations()).containsExactly(강남역, 정자역);
+        assertThat(신분당선.getSections()).extracting(Section::getDistance).containsExactly(15);
+    }
+
+    @Test
+    void removeOnlySection() {
+        assertThatThrownBy(() -> 신분당선.removeSection(양재역))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void removeUnknownStation() {
+        신분당선.addSection(양재역, 정자역, 5);
+
+        assertThatThrownBy(() -> 신분당선.removeSection(판교역))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 }
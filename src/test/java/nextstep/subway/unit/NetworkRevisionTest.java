@@ -0,0 +1,77 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.StationService;
+import nextstep.subway.applicaion.dto.SectionRequest;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.NetworkRevision;
+import nextstep.subway.domain.NetworkRevisionRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.utils.DatabaseCleanup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "subway.network-snapshot.enabled=true",
+        "subway.network-snapshot.directory=${java.io.tmpdir}/subway-network-revision-test"})
+class NetworkRevisionTest {
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private LineRepository lineRepository;
+    @Autowired
+    private NetworkRevisionRepository revisionRepository;
+    @Autowired
+    private LineService lineService;
+    @Autowired
+    private StationService stationService;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @BeforeEach
+    void setUp() {
+        if (revisionRepository.count() == 0) {
+            revisionRepository.save(new NetworkRevision(1L));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanup.execute();
+    }
+
+    @Test
+    void incrementOnEveryNetworkWrite() {
+        Station 강남역 = stationRepository.save(new Station("강남역"));
+        Station 양재역 = stationRepository.save(new Station("양재역"));
+        Station 정자역 = stationRepository.save(new Station("정자역"));
+        Line 신분당선 = lineRepository.save(new Line("신분당선", "red"));
+
+        long initial = revision();
+        lineService.addSection(신분당선.getId(), new SectionRequest(강남역.getId(), 양재역.getId(), 10));
+        long added = revision();
+        lineService.addSection(신분당선.getId(), new SectionRequest(양재역.getId(), 정자역.getId(), 10));
+        long addedAgain = revision();
+        lineService.deleteSection(신분당선.getId(), 정자역.getId());
+        long removed = revision();
+        stationService.deleteStationById(정자역.getId());
+        long stationDeleted = revision();
+        lineService.deleteLine(신분당선.getId());
+        long lineDeleted = revision();
+
+        assertThat(new long[]{initial, added, addedAgain, removed, stationDeleted, lineDeleted}).isSorted().doesNotHaveDuplicates();
+    }
+
+    private long revision() {
+        return revisionRepository.findRevision().orElse(0L);
+    }
+}
@@ -0,0 +1,65 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.NetworkService;
+import nextstep.subway.applicaion.dto.SectionRequest;
+import nextstep.subway.applicaion.event.SectionAddedEvent;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.NetworkSection;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.utils.DatabaseCleanup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@RecordApplicationEvents
+class NetworkServiceTest {
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private LineRepository lineRepository;
+    @Autowired
+    private LineService lineService;
+    @Autowired
+    private NetworkService networkService;
+    @Autowired
+    private ApplicationEvents events;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanup.execute();
+    }
+
+    @Test
+    void ignoreSectionEventOfEarlierCommit() {
+        // given
+        Station 강남역 = stationRepository.save(new Station("강남역"));
+        Station 양재역 = stationRepository.save(new Station("양재역"));
+        Station 정자역 = stationRepository.save(new Station("정자역"));
+        Line 신분당선 = lineRepository.save(new Line("신분당선", "red"));
+        networkService.getNetwork();
+        lineService.addSection(신분당선.getId(), new SectionRequest(강남역.getId(), 양재역.getId(), 10));
+        lineService.addSection(신분당선.getId(), new SectionRequest(양재역.getId(), 정자역.getId(), 5));
+        SectionAddedEvent earlier = events.stream(SectionAddedEvent.class).findFirst().orElseThrow();
+
+        // when
+        networkService.onSectionAdded(earlier);
+
+        // then
+        assertThat(networkService.getNetwork().getSections(신분당선.getId()))
+                .extracting(NetworkSection::getDistance)
+                .containsExactly(10, 5);
+    }
+}
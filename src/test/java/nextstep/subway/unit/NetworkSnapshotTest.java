@@ -0,0 +1,79 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.applicaion.NetworkSnapshotStore;
+import nextstep.subway.domain.NetworkSection;
+import nextstep.subway.domain.SubwayNetwork;
+import nextstep.subway.utils.RandomNetwork;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NetworkSnapshotTest {
+    @Test
+    void saveAndLoad(@TempDir Path directory) {
+        SubwayNetwork network = RandomNetwork.create(3L, 100, 8, 20).changeExtraFare(2L, 900);
+        NetworkSnapshotStore store = new NetworkSnapshotStore(directory);
+
+        store.save(5L, network);
+        Optional<SubwayNetwork> loaded = store.load(5L, 7L);
+
+        assertThat(loaded).isPresent();
+        assertThat(loaded.get().getVersion()).isEqualTo(7L);
+        assertThat(loaded.get().getDigest()).isEqualTo(network.getDigest());
+        assertThat(loaded.get().getExtraFare(2L)).isEqualTo(900);
+        for (Long lineId : network.getLineIds()) {
+            assertThat(describe(loaded.get().getSections(lineId))).isEqualTo(describe(network.getSections(lineId)));
+        }
+    }
+
+    @Test
+    void loadWithDifferentRevision(@TempDir Path directory) {
+        SubwayNetwork network = RandomNetwork.create(3L, 100, 8, 20);
+        NetworkSnapshotStore store = new NetworkSnapshotStore(directory);
+        store.save(5L, network);
+
+        assertThat(store.load(6L, 2L)).isEmpty();
+    }
+
+    @Test
+    void loadCorruptedSnapshot(@TempDir Path directory) throws IOException {
+        SubwayNetwork network = RandomNetwork.create(3L, 100, 8, 20);
+        NetworkSnapshotStore store = new NetworkSnapshotStore(directory);
+        store.save(5L, network);
+
+        Path file = Files.list(directory).findFirst().orElseThrow();
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x7f;
+        Files.write(file, bytes, StandardOpenOption.TRUNCATE_EXISTING);
+
+        assertThat(store.load(5L, 2L)).isEmpty();
+    }
+
+    @Test
+    void delete(@TempDir Path directory) {
+        SubwayNetwork network = RandomNetwork.create(3L, 100, 8, 20);
+        NetworkSnapshotStore store = new NetworkSnapshotStore(directory);
+        store.save(5L, network);
+
+        store.delete();
+
+        assertThat(store.load(5L, 2L)).isEmpty();
+    }
+
+    private List<String> describe(List<NetworkSection> sections) {
+        return sections.stream()
+                .sorted(Comparator.comparing(NetworkSection::getId))
+                .map(it -> it.getId() + ":" + it.getUpStation().getId() + it.getUpStation().getName()
+                        + "-" + it.getDownStation().getId() + it.getDownStation().getName() + ":" + it.getDistance())
+                .collect(Collectors.toList());
+    }
+}
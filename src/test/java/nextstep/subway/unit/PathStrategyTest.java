@@ -0,0 +1,130 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.PathStrategy;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.SubwayNetwork;
+import nextstep.subway.utils.NetworkFixture;
+import nextstep.subway.utils.RandomNetwork;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.Random;
+
+import static nextstep.subway.utils.NetworkFixture.교대역;
+import static nextstep.subway.utils.NetworkFixture.남부터미널역;
+import static nextstep.subway.utils.NetworkFixture.양재역;
+import static nextstep.subway.utils.NetworkFixture.판교역;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PathStrategyTest {
+    private static final int STATION_COUNT = 200;
+
+    @ParameterizedTest
+    @EnumSource(PathStrategy.class)
+    void findPath(PathStrategy strategy) {
+        PathFinder pathFinder = strategy.create(NetworkFixture.network());
+
+        Path path = pathFinder.findPath(양재역.getId(), 교대역.getId());
+
+        assertThat(path.getStations()).containsExactly(양재역, 남부터미널역, 교대역);
+        assertThat(path.getLineIds()).containsExactly(3L, 3L);
+        assertThat(path.getDistance()).isEqualTo(5);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PathStrategy.class)
+    void findPathWithSameStations(PathStrategy strategy) {
+        PathFinder pathFinder = strategy.create(NetworkFixture.network());
+
+        assertThatThrownBy(() -> pathFinder.findPath(교대역.getId(), 교대역.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PathStrategy.class)
+    void findPathWithUnknownStation(PathStrategy strategy) {
+        PathFinder pathFinder = strategy.create(NetworkFixture.network());
+
+        assertThatThrownBy(() -> pathFinder.findPath(교대역.getId(), 100L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PathStrategy.class)
+    void findPathBetweenDisconnectedStations(PathStrategy strategy) {
+        PathFinder pathFinder = strategy.create(NetworkFixture.network());
+
+        assertThatThrownBy(() -> pathFinder.findPath(교대역.getId(), 판교역.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PathStrategy.class)
+    void sameDistanceAsJgrapht(PathStrategy strategy) {
+        SubwayNetwork network = RandomNetwork.create(3L, STATION_COUNT, 12, 30);
+        PathFinder expected = PathStrategy.JGRAPHT.create(network);
+        PathFinder actual = strategy.create(network);
+
+        Random random = new Random(11L);
+        for (int i = 0; i < 1_000; i++) {
+            Long source = 1L + random.nextInt(STATION_COUNT);
+            Long target = 1L + random.nextInt(STATION_COUNT);
+            if (!source.equals(target)) {
+                assertThat(distanceOf(actual, source, target)).isEqualTo(distanceOf(expected, source, target));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PathStrategy.class)
+    void searchAlternatelyOnDifferentNetworks(PathStrategy strategy) {
+        SubwayNetwork smallNetwork = RandomNetwork.create(5L, 20, 3, 10);
+        SubwayNetwork largeNetwork = RandomNetwork.create(5L, STATION_COUNT, 12, 30);
+        PathFinder small = strategy.create(smallNetwork);
+        PathFinder large = strategy.create(largeNetwork);
+
+        for (long target = 2L; target <= 20L; target++) {
+            assertThat(distanceOf(small, 1L, target)).isEqualTo(distanceOf(PathStrategy.JGRAPHT.create(smallNetwork), 1L, target));
+            assertThat(distanceOf(large, 1L, target)).isEqualTo(distanceOf(PathStrategy.JGRAPHT.create(largeNetwork), 1L, target));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PathStrategy.class)
+    void lineOfEveryHop(PathStrategy strategy) {
+        SubwayNetwork network = RandomNetwork.create(7L, STATION_COUNT, 12, 30);
+        PathFinder pathFinder = strategy.create(network);
+
+        for (long target = 2L; target <= 50L; target++) {
+            Path path;
+            try {
+                path = pathFinder.findPath(1L, target);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            List<Station> stations = path.getStations();
+            assertThat(path.getLineIds()).hasSize(stations.size() - 1);
+            for (int i = 1; i < stations.size(); i++) {
+                assertThat(hasSection(network, path.getLineIds().get(i - 1), stations.get(i - 1), stations.get(i))).isTrue();
+            }
+        }
+    }
+
+    private boolean hasSection(SubwayNetwork network, Long lineId, Station station, Station other) {
+        return network.getSections(lineId).stream()
+                .anyMatch(it -> it.hasStation(station.getId()) && it.hasStation(other.getId()));
+    }
+
+    private Integer distanceOf(PathFinder pathFinder, Long source, Long target) {
+        try {
+            Path path = pathFinder.findPath(source, target);
+            return path.getDistance();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
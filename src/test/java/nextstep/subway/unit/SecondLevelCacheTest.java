@@ -0,0 +1,176 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.StationService;
+import nextstep.subway.applicaion.dto.SectionRequest;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.utils.DatabaseCleanup;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class SecondLevelCacheTest {
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private LineRepository lineRepository;
+    @Autowired
+    private StationService stationService;
+    @Autowired
+    private LineService lineService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        databaseCleanup.execute();
+    }
+
+    @Test
+    void findStationFromCache() {
+        // given
+        Station station = stationRepository.save(new Station("강남역"));
+        statistics.clear();
+
+        // when
+        Station found = stationService.findById(station.getId());
+
+        // then
+        assertThat(found.getName()).isEqualTo("강남역");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deleteStationEvictsCache() {
+        // given
+        Station station = stationRepository.save(new Station("강남역"));
+        stationService.findById(station.getId());
+
+        // when
+        stationService.deleteStationById(station.getId());
+
+        // then
+        assertThatThrownBy(() -> stationService.findById(station.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findAllStationsFromQueryCache() {
+        // given
+        stationRepository.save(new Station("강남역"));
+        stationRepository.save(new Station("역삼역"));
+        stationRepository.findAll();
+        statistics.clear();
+
+        // when
+        List<Station> stations = stationRepository.findAll();
+
+        // then
+        assertThat(stations).extracting(Station::getName).containsExactlyInAnyOrder("강남역", "역삼역");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        // when
+        stationRepository.save(new Station("선릉역"));
+
+        // then
+        assertThat(stationRepository.findAll()).extracting(Station::getName)
+                .containsExactlyInAnyOrder("강남역", "역삼역", "선릉역");
+    }
+
+    @Test
+    void findLineSectionsFromCache() {
+        // given
+        Line line = createLine();
+        findStationNames(line.getId());
+        statistics.clear();
+
+        // when
+        List<String> names = findStationNames(line.getId());
+
+        // then
+        assertThat(names).containsExactly("강남역", "역삼역", "선릉역");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void deleteSectionInvalidatesCache() {
+        // given
+        Line line = createLine();
+        findStationNames(line.getId());
+        Long 선릉역 = stationRepository.findAll().stream()
+                .filter(it -> it.getName().equals("선릉역"))
+                .findFirst()
+                .map(Station::getId)
+                .orElseThrow();
+
+        // when
+        lineService.deleteSection(line.getId(), 선릉역);
+
+        // then
+        assertThat(findStationNames(line.getId())).containsExactly("강남역", "역삼역");
+    }
+
+    @Test
+    void deleteLineAfterSectionEdits() {
+        // given
+        Line line = createLine();
+        findStationNames(line.getId());
+
+        // when
+        lineService.deleteLine(line.getId());
+
+        // then
+        assertThat(lineRepository.findById(line.getId())).isEmpty();
+    }
+
+    private Line createLine() {
+        Station 강남역 = stationRepository.save(new Station("강남역"));
+        Station 역삼역 = stationRepository.save(new Station("역삼역"));
+        Station 선릉역 = stationRepository.save(new Station("선릉역"));
+        Line line = lineRepository.save(new Line("2호선", "green"));
+        lineService.addSection(line.getId(), new SectionRequest(강남역.getId(), 역삼역.getId(), 10));
+        lineService.addSection(line.getId(), new SectionRequest(역삼역.getId(), 선릉역.getId(), 10));
+        return line;
+    }
+
+    private List<String> findStationNames(Long lineId) {
+        return transactionTemplate.execute(status -> lineRepository.findById(lineId)
+                .orElseThrow()
+                .getStations().stream()
+                .map(Station::getName)
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,43 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.ui.SerializedResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedResponseTest {
+    private final SerializedResponse response = new SerializedResponse("[]".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void gzipWhenAccepted() {
+        assertThat(isGzip(response.toResponseEntity("gzip, deflate"))).isTrue();
+        assertThat(isGzip(response.toResponseEntity("deflate, GZIP;q=0.5"))).isTrue();
+        assertThat(isGzip(response.toResponseEntity("*"))).isTrue();
+    }
+
+    @Test
+    void identityWhenGzipIsRefused() {
+        assertThat(isGzip(response.toResponseEntity(null))).isFalse();
+        assertThat(isGzip(response.toResponseEntity("gzip;q=0"))).isFalse();
+        assertThat(isGzip(response.toResponseEntity("gzip; q=0.0, identity"))).isFalse();
+        assertThat(isGzip(response.toResponseEntity("*;q=1, gzip;q=0"))).isFalse();
+        assertThat(isGzip(response.toResponseEntity("x-gzip-like, deflate"))).isFalse();
+    }
+
+    @Test
+    void identityWithoutETagWhenUncached() {
+        ResponseEntity<byte[]> entity = SerializedResponse.uncached("[]".getBytes(StandardCharsets.UTF_8)).toResponseEntity("gzip");
+
+        assertThat(isGzip(entity)).isFalse();
+        assertThat(entity.getHeaders().getETag()).isNull();
+        assertThat(entity.getBody()).isEqualTo("[]".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean isGzip(ResponseEntity<byte[]> entity) {
+        return "gzip".equals(entity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+}
@@ -0,0 +1,68 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationNameIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StationNameIndexTest {
+    private StationNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = StationNameIndex.of(Arrays.asList(
+                new Station(1L, "강남역"),
+                new Station(2L, "강남구청역"),
+                new Station(3L, "교대역"),
+                new Station(4L, "DMC역")
+        ));
+    }
+
+    @Test
+    void searchByPrefix() {
+        assertThat(index.search("강남", 10)).extracting(Station::getName).containsExactly("강남구청역", "강남역");
+    }
+
+    @Test
+    void searchByChoseong() {
+        assertThat(index.search("ㄱㄴ", 10)).extracting(Station::getName).containsExactly("강남구청역", "강남역");
+        assertThat(index.search("ㄱㄷ", 10)).extracting(Station::getName).containsExactly("교대역");
+    }
+
+    @Test
+    void searchBySyllablesAndChoseong() {
+        assertThat(index.search("강ㄴ", 10)).extracting(Station::getName).containsExactly("강남구청역", "강남역");
+        assertThat(index.search("ㄱ남ㄱ", 10)).extracting(Station::getName).containsExactly("강남구청역");
+        assertThat(index.search("교ㄴ", 10)).isEmpty();
+    }
+
+    @Test
+    void searchIgnoresCase() {
+        assertThat(index.search("dmc", 10)).extracting(Station::getId).containsExactly(4L);
+    }
+
+    @Test
+    void searchWithLimit() {
+        assertThat(index.search("ㄱ", 2)).hasSize(2);
+    }
+
+    @Test
+    void withAndWithout() {
+        StationNameIndex next = index.with(new Station(5L, "강변역")).without(1L);
+
+        assertThat(next.search("강", 10)).extracting(Station::getName).containsExactly("강남구청역", "강변역");
+        assertThat(index.search("강", 10)).extracting(Station::getName).containsExactly("강남구청역", "강남역");
+    }
+
+    @Test
+    void withKeepsEntriesSorted() {
+        StationNameIndex next = index.with(new Station(5L, "가락시장역")).with(new Station(2L, "강동역"));
+
+        assertThat(next.size()).isEqualTo(index.size() + 2);
+        assertThat(next.search("ㄱ", 10)).extracting(Station::getName).containsExactly("강남역", "강동역", "교대역", "가락시장역");
+    }
+}
@@ -0,0 +1,131 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.NetworkSection;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.SubwayNetwork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static nextstep.subway.utils.LineFixture.line;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubwayNetworkTest {
+    private Station 강남역;
+    private Station 양재역;
+    private Station 정자역;
+
+    private Line 신분당선;
+    private SubwayNetwork network;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station(1L, "강남역");
+        양재역 = new Station(2L, "양재역");
+        정자역 = new Station(3L, "정자역");
+
+        신분당선 = line(1L, 강남역, 양재역, 10);
+        network = SubwayNetwork.of(1L, List.of(신분당선));
+    }
+
+    @Test
+    void replaceLineWithAddedSection() {
+        신분당선.addSection(양재역, 정자역, 5);
+
+        SubwayNetwork next = network.replaceLine(신분당선);
+
+        assertThat(next.getVersion()).isEqualTo(network.getVersion() + 1);
+        assertThat(next.getSections(1L)).extracting(NetworkSection::getDistance).containsExactly(10, 5);
+        assertThat(network.getSections(1L)).extracting(NetworkSection::getDistance).containsExactly(10);
+    }
+
+    @Test
+    void replaceLineTwice() {
+        신분당선.addSection(양재역, 정자역, 5);
+
+        SubwayNetwork next = network.replaceLine(신분당선).replaceLine(신분당선);
+
+        assertThat(next.getSections(1L)).extracting(NetworkSection::getDistance).containsExactly(10, 5);
+    }
+
+    @Test
+    void replaceLineWithRemovedSection() {
+        신분당선.addSection(양재역, 정자역, 5);
+        SubwayNetwork added = network.replaceLine(신분당선);
+        신분당선.removeSection(정자역);
+
+        SubwayNetwork next = added.replaceLine(신분당선);
+
+        assertThat(next.getSections(1L)).extracting(NetworkSection::getDistance).containsExactly(10);
+    }
+
+    @Test
+    void replaceLine() {
+        신분당선.addSection(강남역, 정자역, 4);
+
+        SubwayNetwork next = network.replaceLine(신분당선);
+
+        assertThat(next.getSections(1L)).extracting(NetworkSection::getDistance).containsExactlyInAnyOrder(4, 6);
+        assertThat(next.getVersion()).isEqualTo(network.getVersion() + 1);
+    }
+
+    @Test
+    void removeLine() {
+        SubwayNetwork next = network.replaceLine(line(2L, 양재역, 정자역, 5))
+                .removeLine(1L);
+
+        assertThat(next.getSections()).extracting(NetworkSection::getLineId).containsExactly(2L);
+    }
+
+    @Test
+    void removeStation() {
+        SubwayNetwork next = network.replaceLine(line(2L, 양재역, 정자역, 5))
+                .removeStation(정자역.getId());
+
+        assertThat(next.getSections()).extracting(NetworkSection::getLineId).containsExactly(1L);
+        assertThat(next.getSections(1L)).isSameAs(network.getSections(1L));
+    }
+
+    @Test
+    void replaceLineWithOlderVersion() {
+        ReflectionTestUtils.setField(신분당선, "version", 3L);
+        SubwayNetwork current = SubwayNetwork.of(1L, List.of(신분당선));
+        신분당선.addSection(양재역, 정자역, 5);
+        ReflectionTestUtils.setField(신분당선, "version", 2L);
+
+        SubwayNetwork next = current.replaceLine(신분당선);
+
+        assertThat(next).isSameAs(current);
+    }
+
+    @Test
+    void changeExtraFareWithOlderVersionKeepsNewerSections() {
+        ReflectionTestUtils.setField(신분당선, "version", 1L);
+        SubwayNetwork current = SubwayNetwork.of(1L, List.of(신분당선));
+        신분당선.setExtraFare(900);
+        ReflectionTestUtils.setField(신분당선, "version", 3L);
+        SubwayNetwork fareChanged = current.changeExtraFare(신분당선);
+        신분당선.addSection(양재역, 정자역, 5);
+        ReflectionTestUtils.setField(신분당선, "version", 2L);
+
+        SubwayNetwork next = fareChanged.replaceLine(신분당선);
+
+        assertThat(next.getSections(1L)).extracting(NetworkSection::getDistance).containsExactly(10, 5);
+        assertThat(next.getExtraFare(1L)).isEqualTo(900);
+    }
+
+    @Test
+    void replaceRemovedLine() {
+        ReflectionTestUtils.setField(신분당선, "version", 1L);
+        SubwayNetwork removed = SubwayNetwork.of(1L, List.of(신분당선)).removeLine(1L);
+        ReflectionTestUtils.setField(신분당선, "version", 2L);
+
+        SubwayNetwork next = removed.replaceLine(신분당선);
+
+        assertThat(next.getSections()).isEmpty();
+        assertThat(next.getLineIds()).isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.CsrGraph;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.PathStrategy;
+import nextstep.subway.domain.SubwayNetwork;
+import nextstep.subway.domain.TransferAwarePathFinder;
+import nextstep.subway.domain.TransferPath;
+import nextstep.subway.domain.TransferPriority;
+import nextstep.subway.utils.RandomNetwork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static nextstep.subway.utils.LineFixture.line;
+import static nextstep.subway.utils.NetworkFixture.강남역;
+import static nextstep.subway.utils.NetworkFixture.교대역;
+import static nextstep.subway.utils.NetworkFixture.남부터미널역;
+import static nextstep.subway.utils.NetworkFixture.양재역;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransferAwarePathFinderTest {
+    private TransferAwarePathFinder pathFinder;
+
+    /**
+     * 교대역 --- *2호선* 3 --- 강남역 --- *신분당선* 3 --- 양재역
+     * |                                               |
+     * *3호선* 5                                        *3호선* 5
+     * |                                               |
+     * 남부터미널역 ------------------------------------------
+     */
+    @BeforeEach
+    void setUp() {
+        Line 이호선 = line(2L, 교대역, 강남역, 3);
+        Line 신분당선 = line(1L, 강남역, 양재역, 3);
+        Line 삼호선 = line(3L, 교대역, 남부터미널역, 5);
+        삼호선.addSection(남부터미널역, 양재역, 5);
+
+        SubwayNetwork network = SubwayNetwork.of(1L, List.of(이호선, 신분당선, 삼호선));
+        pathFinder = new TransferAwarePathFinder(new CsrGraph(network));
+    }
+
+    @Test
+    void minTimeAvoidsExpensiveTransfer() {
+        TransferPath path = pathFinder.findPath(교대역.getId(), 양재역.getId(), TransferPriority.MIN_TIME, 5);
+
+        assertThat(path.getStations()).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(path.getDistance()).isEqualTo(10);
+        assertThat(path.getTransferCount()).isZero();
+    }
+
+    @Test
+    void minTimeTakesCheapTransfer() {
+        TransferPath path = pathFinder.findPath(교대역.getId(), 양재역.getId(), TransferPriority.MIN_TIME, 2);
+
+        assertThat(path.getStations()).containsExactly(교대역, 강남역, 양재역);
+        assertThat(path.getDistance()).isEqualTo(6);
+        assertThat(path.getTransferCount()).isEqualTo(1);
+    }
+
+    @Test
+    void fewestTransfers() {
+        TransferPath path = pathFinder.findPath(교대역.getId(), 양재역.getId(), TransferPriority.FEWEST_TRANSFERS, 0);
+
+        assertThat(path.getStations()).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(path.getTransferCount()).isZero();
+    }
+
+    @Test
+    void withoutPenaltyEqualsShortestDistance() {
+        SubwayNetwork network = RandomNetwork.create(21L, 100, 8, 20);
+        TransferAwarePathFinder transferAware = new TransferAwarePathFinder(new CsrGraph(network));
+        PathFinder shortest = PathStrategy.CSR.create(network);
+
+        for (long target = 2L; target <= 100L; target++) {
+            Long targetId = target;
+            Integer expected = distanceOf(() -> shortest.findPath(1L, targetId).getDistance());
+            Integer actual = distanceOf(() -> transferAware.findPath(1L, targetId, TransferPriority.MIN_TIME, 0).getDistance());
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void unknownStation() {
+        assertThatThrownBy(() -> pathFinder.findPath(교대역.getId(), 99L, TransferPriority.MIN_TIME, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Integer distanceOf(Supplier<Integer> search) {
+        try {
+            return search.get();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
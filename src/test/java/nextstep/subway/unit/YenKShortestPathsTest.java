@@ -0,0 +1,94 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.AlternativePaths;
+import nextstep.subway.domain.CsrGraph;
+import nextstep.subway.domain.NetworkSection;
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.SubwayNetwork;
+import nextstep.subway.domain.YenKShortestPaths;
+import nextstep.subway.utils.NetworkFixture;
+import nextstep.subway.utils.RandomNetwork;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.KShortestPaths;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.WeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static nextstep.subway.utils.NetworkFixture.강남역;
+import static nextstep.subway.utils.NetworkFixture.교대역;
+import static nextstep.subway.utils.NetworkFixture.양재역;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class YenKShortestPathsTest {
+    private static final long NO_DEADLINE = Long.MAX_VALUE / 2;
+
+    private YenKShortestPaths paths;
+
+    @BeforeEach
+    void setUp() {
+        paths = new YenKShortestPaths(new CsrGraph(NetworkFixture.network()));
+    }
+
+    @Test
+    void findAlternatives() {
+        AlternativePaths result = paths.find(교대역.getId(), 양재역.getId(), 3, 10.0, System.nanoTime() + NO_DEADLINE);
+
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.getPaths()).extracting(Path::getDistance).containsExactly(5, 20);
+        assertThat(result.getPaths().get(1).getStations()).containsExactly(교대역, 강남역, 양재역);
+    }
+
+    @Test
+    void findAlternativesWithinDetourRatio() {
+        AlternativePaths result = paths.find(교대역.getId(), 양재역.getId(), 3, 2.0, System.nanoTime() + NO_DEADLINE);
+
+        assertThat(result.getPaths()).extracting(Path::getDistance).containsExactly(5);
+    }
+
+    @Test
+    void returnPartialResultAfterDeadline() {
+        AlternativePaths result = paths.find(교대역.getId(), 양재역.getId(), 3, 10.0, System.nanoTime() - 1);
+
+        assertThat(result.isComplete()).isFalse();
+        assertThat(result.getPaths()).extracting(Path::getDistance).containsExactly(5);
+    }
+
+    @Test
+    void sameDistancesAsJgraphtKShortestPaths() {
+        SubwayNetwork network = RandomNetwork.create(13L, 30, 4, 12);
+        YenKShortestPaths yen = new YenKShortestPaths(new CsrGraph(network));
+        WeightedMultigraph<Long, DefaultWeightedEdge> graph = new WeightedMultigraph<>(DefaultWeightedEdge.class);
+        for (NetworkSection section : network.getSections()) {
+            graph.addVertex(section.getUpStation().getId());
+            graph.addVertex(section.getDownStation().getId());
+            graph.setEdgeWeight(graph.addEdge(section.getUpStation().getId(), section.getDownStation().getId()), section.getDistance());
+        }
+
+        List<Long> stationIds = graph.vertexSet().stream().sorted().limit(6).collect(Collectors.toList());
+        for (Long source : stationIds) {
+            for (Long target : stationIds) {
+                if (source.equals(target) || new KShortestPaths<>(graph, 1).getPaths(source, target).isEmpty()) {
+                    continue;
+                }
+                List<Integer> expected = distinctByStations(new KShortestPaths<>(graph, 30).getPaths(source, target)).stream()
+                        .limit(5)
+                        .collect(Collectors.toList());
+                AlternativePaths actual = yen.find(source, target, 5, 100.0, System.nanoTime() + NO_DEADLINE);
+
+                assertThat(actual.getPaths()).extracting(Path::getDistance).containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    private List<Integer> distinctByStations(List<GraphPath<Long, DefaultWeightedEdge>> paths) {
+        Map<List<Long>, Integer> distances = new LinkedHashMap<>();
+        paths.forEach(it -> distances.putIfAbsent(it.getVertexList(), (int) it.getWeight()));
+        return distances.values().stream().sorted().collect(Collectors.toList());
+    }
+}
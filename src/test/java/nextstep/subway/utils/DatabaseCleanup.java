@@ -1,12 +1,16 @@
 package nextstep.subway.utils;
 
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
+import org.hibernate.SessionFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
@@ -22,6 +26,12 @@ public class DatabaseCleanup implements InitializingBean {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     private List<String> tableNames;
 
     @Override
@@ -46,5 +56,7 @@ public class DatabaseCleanup implements InitializingBean {
             jdbcTemplate.execute("TRUNCATE TABLE " + tableName);
         }
         jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        eventPublisher.publishEvent(new NetworkChangedEvent());
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package nextstep.subway.utils;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Station;
+
+public class LineFixture {
+    public static Line line(Long id, Station upStation, Station downStation, int distance) {
+        Line line = new Line(id + "호선", "color-" + id);
+        line.setId(id);
+        line.addSection(upStation, downStation, distance);
+        return line;
+    }
+}
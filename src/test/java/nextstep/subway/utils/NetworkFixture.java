@@ -0,0 +1,37 @@
+package nextstep.subway.utils;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.SubwayNetwork;
+
+import java.util.List;
+
+import static nextstep.subway.utils.LineFixture.line;
+
+public class NetworkFixture {
+    public static final Station 교대역 = new Station(1L, "교대역");
+    public static final Station 강남역 = new Station(2L, "강남역");
+    public static final Station 양재역 = new Station(3L, "양재역");
+    public static final Station 남부터미널역 = new Station(4L, "남부터미널역");
+    public static final Station 판교역 = new Station(5L, "판교역");
+    public static final Station 이매역 = new Station(6L, "이매역");
+
+    /**
+     * 교대역    --- *2호선* (10) ---   강남역
+     * |                              |
+     * *3호선* (2)                     *신분당선* (10, 추가 요금 900)
+     * |                              |
+     * 남부터미널역  --- *3호선* (3) ---   양재역
+     *
+     * 판교역 --- *경강선* (5) --- 이매역
+     */
+    public static SubwayNetwork network() {
+        Line 이호선 = line(2L, 교대역, 강남역, 10);
+        Line 신분당선 = line(4L, 강남역, 양재역, 10);
+        신분당선.setExtraFare(900);
+        Line 삼호선 = line(3L, 교대역, 남부터미널역, 2);
+        삼호선.addSection(남부터미널역, 양재역, 3);
+        Line 경강선 = line(5L, 판교역, 이매역, 5);
+        return SubwayNetwork.of(1L, List.of(이호선, 신분당선, 삼호선, 경강선));
+    }
+}
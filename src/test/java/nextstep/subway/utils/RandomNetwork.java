@@ -0,0 +1,45 @@
+package nextstep.subway.utils;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.SubwayNetwork;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class RandomNetwork {
+    public static SubwayNetwork create(long seed, int stationCount, int lineCount, int sectionsPerLine) {
+        Random random = new Random(seed);
+        Station[] stations = new Station[stationCount];
+        for (int i = 0; i < stationCount; i++) {
+            stations[i] = new Station(i + 1L, "역" + (i + 1));
+        }
+
+        List<Line> lines = new ArrayList<>(lineCount);
+        long sectionId = 1L;
+        for (long lineId = 1L; lineId <= lineCount; lineId++) {
+            Line line = new Line(lineId + "호선", "color-" + lineId);
+            line.setId(lineId);
+            Station upStation = stations[random.nextInt(stationCount)];
+            Set<Station> visited = new HashSet<>();
+            visited.add(upStation);
+            for (int i = 0; i < sectionsPerLine; i++) {
+                Station downStation = stations[random.nextInt(stationCount)];
+                if (!visited.add(downStation)) {
+                    continue;
+                }
+                int distance = 1 + random.nextInt(20);
+                Section section = line.addSection(upStation, downStation, distance);
+                ReflectionTestUtils.setField(section, "id", sectionId++);
+                upStation = downStation;
+            }
+            lines.add(line);
+        }
+        return SubwayNetwork.of(1L, lines);
+    }
+}